@@ -30,7 +30,7 @@ public class CorsConfig {
     @Value("${app.cors.allowed-headers:*}")
     private String allowedHeaders;
     
-    @Value("${app.cors.exposed-headers:Authorization,Content-Type}")
+    @Value("${app.cors.exposed-headers:Authorization,Content-Type,ETag}")
     private String exposedHeaders;
 
     @Value("${app.cors.max-age:3600}")
@@ -0,0 +1,55 @@
+package com.adewunmi.task_management_api.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Exports hits, misses and the hit ratio of each second-level cache region (tenants, roles, users, users.roles).
+ * The counts come from Hibernate statistics, so the meters only exist where hibernate.generate_statistics is on.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.generate_statistics", havingValue = "true")
+public class EntityCacheMetricsConfig {
+
+    @Bean
+    public MeterBinder entityCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            for (String region : statistics.getSecondLevelCacheRegionNames()) {
+                ToLongFunction<Statistics> hits = stats -> regionStatistics(stats, region).getHitCount();
+                ToLongFunction<Statistics> misses = stats -> regionStatistics(stats, region).getMissCount();
+
+                FunctionCounter.builder("entity.cache.gets", statistics, hits::applyAsLong)
+                        .description("Second-level cache lookups")
+                        .tags("region", region, "result", "hit")
+                        .register(registry);
+                FunctionCounter.builder("entity.cache.gets", statistics, misses::applyAsLong)
+                        .description("Second-level cache lookups")
+                        .tags("region", region, "result", "miss")
+                        .register(registry);
+                Gauge.builder("entity.cache.hit.ratio", statistics, stats -> {
+                            long hitCount = hits.applyAsLong(stats);
+                            long total = hitCount + misses.applyAsLong(stats);
+                            return total == 0 ? Double.NaN : (double) hitCount / total;
+                        })
+                        .description("Share of second-level cache lookups served from the cache since startup")
+                        .tag("region", region)
+                        .register(registry);
+            }
+        };
+    }
+
+    private static CacheRegionStatistics regionStatistics(Statistics statistics, String region) {
+        return statistics.getDomainDataRegionStatistics(region);
+    }
+}
@@ -0,0 +1,32 @@
+package com.adewunmi.task_management_api.config;
+
+import com.adewunmi.task_management_api.service.EntityCacheService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * With invalidation broadcasting on, every instance drops entities evicted by the others
+ * from its second-level cache
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.entity-cache.redis-invalidation.enabled", havingValue = "true")
+public class EntityCacheRedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer entityCacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                         EntityCacheService entityCacheService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> entityCacheService.handleInvalidation(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(EntityCacheService.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,42 @@
+package com.adewunmi.task_management_api.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers PostgreSQL full-text search functions for task search
+ * Registered through META-INF/services so they are available to Criteria queries
+ *
+ * The tsvector expression must stay identical to the one indexed by
+ * V10__create_task_search_index.sql, otherwise PostgreSQL will not use the GIN index.
+ * Only used when app.search.full-text-enabled is true (never on H2).
+ */
+public class FullTextSearchFunctionContributor implements FunctionContributor {
+
+    public static final String TASK_SEARCH_MATCH = "task_search_match";
+    public static final String TASK_SEARCH_RANK = "task_search_rank";
+
+    private static final String TASK_SEARCH_VECTOR =
+            "(setweight(to_tsvector('english', coalesce(?1, '')), 'A') || "
+                    + "setweight(to_tsvector('english', coalesce(?2, '')), 'B'))";
+
+    private static final String TASK_SEARCH_QUERY = "websearch_to_tsquery('english', ?3)";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry basicTypeRegistry = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        BasicType<Boolean> booleanType = basicTypeRegistry.resolve(StandardBasicTypes.BOOLEAN);
+        BasicType<Double> doubleType = basicTypeRegistry.resolve(StandardBasicTypes.DOUBLE);
+
+        // task_search_match(title, description, terms)
+        functionContributions.getFunctionRegistry().registerPattern(
+                TASK_SEARCH_MATCH, TASK_SEARCH_VECTOR + " @@ " + TASK_SEARCH_QUERY, booleanType);
+
+        // task_search_rank(title, description, terms)
+        functionContributions.getFunctionRegistry().registerPattern(
+                TASK_SEARCH_RANK, "ts_rank(" + TASK_SEARCH_VECTOR + ", " + TASK_SEARCH_QUERY + ")", doubleType);
+    }
+}
@@ -0,0 +1,32 @@
+package com.adewunmi.task_management_api.config;
+
+import com.adewunmi.task_management_api.service.TaskCacheService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * With the Redis-backed task cache, every instance listens for invalidations published by the others
+ * and drops the affected tasks from its local cache
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.task-cache.redis.enabled", havingValue = "true")
+public class TaskCacheRedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer taskCacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                       TaskCacheService taskCacheService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> taskCacheService.handleInvalidation(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(TaskCacheService.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
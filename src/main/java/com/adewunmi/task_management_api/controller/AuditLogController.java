@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -29,52 +30,78 @@ import org.springframework.web.bind.annotation.*;
 @PreAuthorize("hasRole('ADMIN')")
 public class AuditLogController {
 
+    private static final String SLICE_PAGINATION = "slice";
+
     private final AuditLogService auditLogService;
 
     @GetMapping
     @Operation(summary = "Get all audit logs", description = "Retrieves all audit logs for the current tenant (Admin only)")
-    public ResponseEntity<ApiResponse<Page<AuditLogResponse>>> getAuditLogs(
+    public ResponseEntity<ApiResponse<?>> getAuditLogs(
             @Parameter(description = "Page number") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Page size") @RequestParam(defaultValue = "50") int size) {
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Pagination mode: offset or slice (no total)") @RequestParam(defaultValue = "offset") String pagination) {
         
         Pageable pageable = PageRequest.of(page, size, Sort.by("timestamp").descending());
+        if (SLICE_PAGINATION.equalsIgnoreCase(pagination)) {
+            Slice<AuditLogResponse> slice = auditLogService.getAuditLogsSlice(pageable);
+            return ResponseEntity.ok(ApiResponse.success(slice));
+        }
+        
         Page<AuditLogResponse> response = auditLogService.getAuditLogs(pageable);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @GetMapping("/entity/{entityType}/{entityId}")
     @Operation(summary = "Get audit logs by entity", description = "Retrieves audit logs for a specific entity (Admin only)")
-    public ResponseEntity<ApiResponse<Page<AuditLogResponse>>> getAuditLogsByEntity(
+    public ResponseEntity<ApiResponse<?>> getAuditLogsByEntity(
             @Parameter(description = "Entity type", example = "Task") @PathVariable String entityType,
             @Parameter(description = "Entity ID") @PathVariable Long entityId,
             @Parameter(description = "Page number") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Page size") @RequestParam(defaultValue = "50") int size) {
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Pagination mode: offset or slice (no total)") @RequestParam(defaultValue = "offset") String pagination) {
         
         Pageable pageable = PageRequest.of(page, size, Sort.by("timestamp").descending());
+        if (SLICE_PAGINATION.equalsIgnoreCase(pagination)) {
+            Slice<AuditLogResponse> slice = auditLogService.getAuditLogsByEntitySlice(entityType, entityId, pageable);
+            return ResponseEntity.ok(ApiResponse.success(slice));
+        }
+        
         Page<AuditLogResponse> response = auditLogService.getAuditLogsByEntity(entityType, entityId, pageable);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @GetMapping("/user/{userId}")
     @Operation(summary = "Get audit logs by user", description = "Retrieves audit logs for a specific user (Admin only)")
-    public ResponseEntity<ApiResponse<Page<AuditLogResponse>>> getAuditLogsByUser(
+    public ResponseEntity<ApiResponse<?>> getAuditLogsByUser(
             @Parameter(description = "User ID") @PathVariable Long userId,
             @Parameter(description = "Page number") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Page size") @RequestParam(defaultValue = "50") int size) {
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Pagination mode: offset or slice (no total)") @RequestParam(defaultValue = "offset") String pagination) {
         
         Pageable pageable = PageRequest.of(page, size, Sort.by("timestamp").descending());
+        if (SLICE_PAGINATION.equalsIgnoreCase(pagination)) {
+            Slice<AuditLogResponse> slice = auditLogService.getAuditLogsByUserSlice(userId, pageable);
+            return ResponseEntity.ok(ApiResponse.success(slice));
+        }
+        
         Page<AuditLogResponse> response = auditLogService.getAuditLogsByUser(userId, pageable);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @GetMapping("/action/{action}")
     @Operation(summary = "Get audit logs by action", description = "Retrieves audit logs for a specific action type (Admin only)")
-    public ResponseEntity<ApiResponse<Page<AuditLogResponse>>> getAuditLogsByAction(
+    public ResponseEntity<ApiResponse<?>> getAuditLogsByAction(
             @Parameter(description = "Action type", example = "CREATE_TASK") @PathVariable String action,
             @Parameter(description = "Page number") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Page size") @RequestParam(defaultValue = "50") int size) {
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Pagination mode: offset or slice (no total)") @RequestParam(defaultValue = "offset") String pagination) {
         
         Pageable pageable = PageRequest.of(page, size, Sort.by("timestamp").descending());
+        if (SLICE_PAGINATION.equalsIgnoreCase(pagination)) {
+            Slice<AuditLogResponse> slice = auditLogService.getAuditLogsByActionSlice(action, pageable);
+            return ResponseEntity.ok(ApiResponse.success(slice));
+        }
+        
         Page<AuditLogResponse> response = auditLogService.getAuditLogsByAction(action, pageable);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
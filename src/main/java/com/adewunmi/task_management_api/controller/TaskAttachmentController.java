@@ -12,6 +12,7 @@ import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -33,6 +34,8 @@ import java.util.List;
 @SecurityRequirement(name = "Bearer Authentication")
 public class TaskAttachmentController {
 
+    private static final String SLICE_PAGINATION = "slice";
+
     private final TaskAttachmentService attachmentService;
 
     @PostMapping("/{taskId}/attachments")
@@ -49,12 +52,18 @@ public class TaskAttachmentController {
 
     @GetMapping("/{taskId}/attachments")
     @Operation(summary = "Get task attachments", description = "Retrieves all attachments for a specific task with pagination")
-    public ResponseEntity<ApiResponse<Page<AttachmentResponse>>> getTaskAttachments(
+    public ResponseEntity<ApiResponse<?>> getTaskAttachments(
             @Parameter(description = "Task ID") @PathVariable Long taskId,
             @Parameter(description = "Page number") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Pagination mode: offset or slice (no total)") @RequestParam(defaultValue = "offset") String pagination) {
         
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        if (SLICE_PAGINATION.equalsIgnoreCase(pagination)) {
+            Slice<AttachmentResponse> slice = attachmentService.getTaskAttachmentsSlice(taskId, pageable);
+            return ResponseEntity.ok(ApiResponse.success(slice));
+        }
+        
         Page<AttachmentResponse> response = attachmentService.getTaskAttachments(taskId, pageable);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -13,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -29,6 +30,8 @@ import org.springframework.web.bind.annotation.*;
 @SecurityRequirement(name = "Bearer Authentication")
 public class TaskCommentController {
 
+    private static final String SLICE_PAGINATION = "slice";
+
     private final TaskCommentService commentService;
 
     @PostMapping("/{taskId}/comments")
@@ -44,12 +47,18 @@ public class TaskCommentController {
 
     @GetMapping("/{taskId}/comments")
     @Operation(summary = "Get task comments", description = "Retrieves all comments for a specific task with pagination")
-    public ResponseEntity<ApiResponse<Page<CommentResponse>>> getTaskComments(
+    public ResponseEntity<ApiResponse<?>> getTaskComments(
             @Parameter(description = "Task ID") @PathVariable Long taskId,
             @Parameter(description = "Page number") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Pagination mode: offset or slice (no total)") @RequestParam(defaultValue = "offset") String pagination) {
         
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        if (SLICE_PAGINATION.equalsIgnoreCase(pagination)) {
+            Slice<CommentResponse> slice = commentService.getTaskCommentsSlice(taskId, pageable);
+            return ResponseEntity.ok(ApiResponse.success(slice));
+        }
+        
         Page<CommentResponse> response = commentService.getTaskComments(taskId, pageable);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
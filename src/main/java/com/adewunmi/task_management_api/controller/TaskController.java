@@ -1,22 +1,52 @@
 package com.adewunmi.task_management_api.controller;
 
+import com.adewunmi.task_management_api.dto.request.BulkAssignRequest;
+import com.adewunmi.task_management_api.dto.request.BulkStatusUpdateRequest;
+import com.adewunmi.task_management_api.dto.request.TaskBatchGetRequest;
 import com.adewunmi.task_management_api.dto.request.TaskFilterRequest;
 import com.adewunmi.task_management_api.dto.request.TaskRequest;
 import com.adewunmi.task_management_api.dto.response.ApiResponse;
+import com.adewunmi.task_management_api.dto.response.BulkImportResponse;
+import com.adewunmi.task_management_api.dto.response.BulkUpdateResponse;
+import com.adewunmi.task_management_api.dto.response.CursorPageResponse;
+import com.adewunmi.task_management_api.dto.response.TaskBatchGetResponse;
 import com.adewunmi.task_management_api.dto.response.TaskResponse;
+import com.adewunmi.task_management_api.enums.ExportFormat;
 import com.adewunmi.task_management_api.enums.TaskStatus;
+import com.adewunmi.task_management_api.exception.BadRequestException;
+import com.adewunmi.task_management_api.exception.PreconditionFailedException;
+import com.adewunmi.task_management_api.multitenant.TenantContext;
+import com.adewunmi.task_management_api.service.TaskImportService;
 import com.adewunmi.task_management_api.service.TaskService;
+import com.adewunmi.task_management_api.service.TenantChangeCounterService;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
 
 @RestController
 @RequestMapping("/api/v1/tasks")
@@ -25,7 +55,14 @@ import org.springframework.web.bind.annotation.*;
 @SecurityRequirement(name = "Bearer Authentication")
 public class TaskController {
 
+    private static final String CURSOR_PAGINATION = "cursor";
+    private static final String SLICE_PAGINATION = "slice";
+    private static final String ESTIMATED_PAGINATION = "estimated";
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     private final TaskService taskService;
+    private final TaskImportService taskImportService;
+    private final TenantChangeCounterService tenantChangeCounterService;
 
     @PostMapping
     @Operation(summary = "Create a new task", description = "Creates a new task in the current tenant")
@@ -36,21 +73,79 @@ public class TaskController {
                 HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Bulk import tasks", description = "Imports many tasks in JDBC batches and reports per-row errors")
+    public ResponseEntity<ApiResponse<BulkImportResponse>> importTasks(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "JSON array of tasks",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = TaskRequest.class))))
+            InputStream body) {
+        // Read as a stream, so the row limit applies while parsing instead of after binding the whole list
+        BulkImportResponse response = taskImportService.importTasks(body);
+        return ResponseEntity.ok(ApiResponse.success(
+                "Imported " + response.getImportedCount() + " of " + response.getTotalRows() + " tasks", response));
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Bulk import tasks from CSV",
+            description = "Imports tasks from a CSV file with a header row (title, description, status, priority, dueDate, assignedToId, tags)")
+    public ResponseEntity<ApiResponse<BulkImportResponse>> importTasksFromCsv(
+            @Parameter(description = "CSV file to import") @RequestParam("file") MultipartFile file) {
+        BulkImportResponse response = taskImportService.importTasksFromCsv(file);
+        return ResponseEntity.ok(ApiResponse.success(
+                "Imported " + response.getImportedCount() + " of " + response.getTotalRows() + " tasks", response));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get task by ID", description = "Retrieves a task by its ID (tenant isolated)")
     public ResponseEntity<ApiResponse<TaskResponse>> getTaskById(
-            @Parameter(description = "Task ID") @PathVariable Long id) {
+            @Parameter(description = "Task ID") @PathVariable Long id,
+            ServletWebRequest webRequest) {
+        // Served from the task cache when warm, so the validator comes from the response itself. No Last-Modified:
+        // updatedAt does not move when the embedded creator or assignee changes, the ETag does
         TaskResponse response = taskService.getTaskById(id);
+        if (webRequest.checkNotModified(eTag(response))) {
+            return null;
+        }
+
+        // checkNotModified has already set the ETag on the response
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @PostMapping("/batch-get")
+    @Operation(summary = "Get tasks by IDs",
+            description = "Retrieves up to app.batch-get.max-ids tasks in one call; results keep the request order and mark ids that were not found")
+    public ResponseEntity<ApiResponse<TaskBatchGetResponse>> batchGetTasks(
+            @Valid @RequestBody TaskBatchGetRequest request) {
+        TaskBatchGetResponse response = taskService.batchGetTasks(request);
+        return ResponseEntity.ok(ApiResponse.success(
+                "Found " + response.getFoundCount() + " of " + response.getRequestedCount() + " tasks", response));
+    }
+
     @PutMapping("/{id}")
-    @Operation(summary = "Update a task", description = "Updates an existing task")
+    @Operation(summary = "Update a task",
+            description = "Updates an existing task; with If-Match the update fails with 412 if the task has changed since that ETag")
     public ResponseEntity<ApiResponse<TaskResponse>> updateTask(
             @Parameter(description = "Task ID") @PathVariable Long id,
+            @Parameter(description = "ETag of the task version being edited") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TaskRequest request) {
-        TaskResponse response = taskService.updateTask(id, request);
-        return ResponseEntity.ok(ApiResponse.success("Task updated successfully", response));
+        TaskResponse response = taskService.updateTask(id, request, expectedVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(eTag(response))
+                .body(ApiResponse.success("Task updated successfully", response));
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Partially update a task",
+            description = "Applies a JSON merge patch: only the fields present are changed, null clears a field; "
+                    + "with If-Match the update fails with 412 if the task has changed since that ETag")
+    public ResponseEntity<ApiResponse<TaskResponse>> patchTask(
+            @Parameter(description = "Task ID") @PathVariable Long id,
+            @Parameter(description = "ETag of the task version being edited") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody JsonNode patch) {
+        TaskResponse response = taskService.patchTask(id, patch, expectedVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(eTag(response))
+                .body(ApiResponse.success("Task updated successfully", response));
     }
 
     @DeleteMapping("/{id}")
@@ -63,7 +158,7 @@ public class TaskController {
 
     @GetMapping
     @Operation(summary = "Get all tasks", description = "Retrieves all tasks with filtering, search, pagination and sorting")
-    public ResponseEntity<ApiResponse<Page<TaskResponse>>> getAllTasks(
+    public ResponseEntity<ApiResponse<?>> getAllTasks(
             @Parameter(description = "Search term") @RequestParam(required = false) String search,
             @Parameter(description = "Task statuses") @RequestParam(required = false) java.util.List<TaskStatus> statuses,
             @Parameter(description = "Task priorities") @RequestParam(required = false) java.util.List<com.adewunmi.task_management_api.enums.TaskPriority> priorities,
@@ -77,7 +172,15 @@ public class TaskController {
             @Parameter(description = "Page number") @RequestParam(defaultValue = "0") Integer page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "20") Integer size,
             @Parameter(description = "Sort by field") @RequestParam(defaultValue = "createdAt") String sortBy,
-            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDirection) {
+            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDirection,
+            @Parameter(description = "Pagination mode: offset, cursor, slice (no total) or estimated (cached total)") @RequestParam(defaultValue = "offset") String pagination,
+            @Parameter(description = "Cursor returned by the previous page (cursor mode only)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Comma-separated response fields to return, e.g. id,title,status,priority,assignedTo,dueDate (default: all)") @RequestParam(required = false) String fields,
+            ServletWebRequest webRequest) {
+        // Nothing changed in the tenant since the client's copy: answer 304 without running the list query
+        if (listNotModified(webRequest, overdue)) {
+            return null;
+        }
 
         TaskFilterRequest filterRequest = TaskFilterRequest.builder()
                 .search(search)
@@ -94,19 +197,91 @@ public class TaskController {
                 .size(size)
                 .sortBy(sortBy)
                 .sortDirection(sortDirection)
+                .cursor(cursor)
+                .estimateTotal(ESTIMATED_PAGINATION.equalsIgnoreCase(pagination))
+                .fields(TaskFieldsResponseAdvice.parseFields(fields))
                 .build();
 
+        if (CURSOR_PAGINATION.equalsIgnoreCase(pagination)) {
+            CursorPageResponse<TaskResponse> response = taskService.getAllTasksByCursor(filterRequest);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        }
+
+        if (SLICE_PAGINATION.equalsIgnoreCase(pagination)) {
+            Slice<TaskResponse> response = taskService.getAllTasksSlice(filterRequest);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        }
+
         Page<TaskResponse> response = taskService.getAllTasks(filterRequest);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "Export tasks", description = "Streams every task matching the filters as NDJSON or CSV")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @Parameter(description = "Search term") @RequestParam(required = false) String search,
+            @Parameter(description = "Task statuses") @RequestParam(required = false) java.util.List<TaskStatus> statuses,
+            @Parameter(description = "Task priorities") @RequestParam(required = false) java.util.List<com.adewunmi.task_management_api.enums.TaskPriority> priorities,
+            @Parameter(description = "Assigned user ID") @RequestParam(required = false) Long assignedToId,
+            @Parameter(description = "Creator user ID") @RequestParam(required = false) Long createdById,
+            @Parameter(description = "Due date from") @RequestParam(required = false) @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME) java.time.LocalDateTime dueDateFrom,
+            @Parameter(description = "Due date to") @RequestParam(required = false) @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME) java.time.LocalDateTime dueDateTo,
+            @Parameter(description = "Tags") @RequestParam(required = false) String tags,
+            @Parameter(description = "Show overdue tasks only") @RequestParam(required = false) Boolean overdue,
+            @Parameter(description = "Show completed tasks only") @RequestParam(required = false) Boolean completed,
+            @Parameter(description = "Sort by field") @RequestParam(defaultValue = "createdAt") String sortBy,
+            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDirection,
+            @Parameter(description = "Export format (ndjson or csv)") @RequestParam(defaultValue = "ndjson") String format) {
+
+        ExportFormat exportFormat = Arrays.stream(ExportFormat.values())
+                .filter(candidate -> candidate.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("Unsupported export format: " + format));
+
+        TaskFilterRequest filterRequest = TaskFilterRequest.builder()
+                .search(search)
+                .statuses(statuses)
+                .priorities(priorities)
+                .assignedToId(assignedToId)
+                .createdById(createdById)
+                .dueDateFrom(dueDateFrom)
+                .dueDateTo(dueDateTo)
+                .tags(tags)
+                .overdue(overdue)
+                .completed(completed)
+                .page(0)
+                .size(1)
+                .sortBy(sortBy)
+                .sortDirection(sortDirection)
+                .build();
+
+        // The body is written on an async thread, so carry the tenant over explicitly
+        Long tenantId = TenantContext.getCurrentTenant();
+        StreamingResponseBody body = outputStream -> {
+            TenantContext.setCurrentTenant(tenantId);
+            try {
+                taskService.exportTasks(filterRequest, exportFormat, outputStream);
+            } finally {
+                TenantContext.clear();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"tasks." + exportFormat.getFileExtension() + "\"")
+                .body(body);
+    }
+
     @PostMapping("/{id}/assign/{userId}")
     @Operation(summary = "Assign task to user", description = "Assigns a task to a specific user")
     public ResponseEntity<ApiResponse<TaskResponse>> assignTask(
             @Parameter(description = "Task ID") @PathVariable Long id,
             @Parameter(description = "User ID") @PathVariable Long userId) {
         TaskResponse response = taskService.assignTask(id, userId);
-        return ResponseEntity.ok(ApiResponse.success("Task assigned successfully", response));
+        return ResponseEntity.ok()
+                .eTag(eTag(response))
+                .body(ApiResponse.success("Task assigned successfully", response));
     }
 
     @PostMapping("/{id}/unassign")
@@ -114,21 +289,46 @@ public class TaskController {
     public ResponseEntity<ApiResponse<TaskResponse>> unassignTask(
             @Parameter(description = "Task ID") @PathVariable Long id) {
         TaskResponse response = taskService.unassignTask(id);
-        return ResponseEntity.ok(ApiResponse.success("Task unassigned successfully", response));
+        return ResponseEntity.ok()
+                .eTag(eTag(response))
+                .body(ApiResponse.success("Task unassigned successfully", response));
     }
 
     @PatchMapping("/{id}/status")
-    @Operation(summary = "Update task status", description = "Updates the status of a task")
+    @Operation(summary = "Update task status",
+            description = "Updates the status of a task; with If-Match the update fails with 412 if the task has changed since that ETag")
     public ResponseEntity<ApiResponse<TaskResponse>> updateTaskStatus(
             @Parameter(description = "Task ID") @PathVariable Long id,
+            @Parameter(description = "ETag of the task version being edited") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Parameter(description = "New status") @RequestParam TaskStatus status) {
-        TaskResponse response = taskService.updateTaskStatus(id, status);
-        return ResponseEntity.ok(ApiResponse.success("Task status updated successfully", response));
+        TaskResponse response = taskService.updateTaskStatus(id, status, expectedVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(eTag(response))
+                .body(ApiResponse.success("Task status updated successfully", response));
+    }
+
+    @PatchMapping("/bulk/status")
+    @Operation(summary = "Bulk update task status",
+            description = "Changes the status of the listed or filtered tasks; tasks that cannot make the transition are reported")
+    public ResponseEntity<ApiResponse<BulkUpdateResponse>> bulkUpdateStatus(
+            @Valid @RequestBody BulkStatusUpdateRequest request) {
+        BulkUpdateResponse response = taskService.bulkUpdateStatus(request);
+        return ResponseEntity.ok(ApiResponse.success(
+                "Updated " + response.getUpdatedCount() + " of " + response.getRequestedCount() + " tasks", response));
+    }
+
+    @PostMapping("/bulk/assign")
+    @Operation(summary = "Bulk assign tasks",
+            description = "Assigns the listed or filtered tasks to a user, or unassigns them when no assignee is given")
+    public ResponseEntity<ApiResponse<BulkUpdateResponse>> bulkAssign(@Valid @RequestBody BulkAssignRequest request) {
+        BulkUpdateResponse response = taskService.bulkAssign(request);
+        return ResponseEntity.ok(ApiResponse.success(
+                "Updated " + response.getUpdatedCount() + " of " + response.getRequestedCount() + " tasks", response));
     }
 
     @GetMapping("/my-tasks")
     @Operation(summary = "Get my tasks", description = "Retrieves tasks assigned to the current user")
-    public ResponseEntity<ApiResponse<Page<TaskResponse>>> getMyTasks(
+    public ResponseEntity<ApiResponse<?>> getMyTasks(
             @Parameter(description = "Search term") @RequestParam(required = false) String search,
             @Parameter(description = "Task statuses") @RequestParam(required = false) java.util.List<TaskStatus> statuses,
             @Parameter(description = "Task priorities") @RequestParam(required = false) java.util.List<com.adewunmi.task_management_api.enums.TaskPriority> priorities,
@@ -140,7 +340,15 @@ public class TaskController {
             @Parameter(description = "Page number") @RequestParam(defaultValue = "0") Integer page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "20") Integer size,
             @Parameter(description = "Sort by field") @RequestParam(defaultValue = "createdAt") String sortBy,
-            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDirection) {
+            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDirection,
+            @Parameter(description = "Pagination mode: offset, cursor, slice (no total) or estimated (cached total)") @RequestParam(defaultValue = "offset") String pagination,
+            @Parameter(description = "Cursor returned by the previous page (cursor mode only)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Comma-separated response fields to return, e.g. id,title,status,priority,assignedTo,dueDate (default: all)") @RequestParam(required = false) String fields,
+            ServletWebRequest webRequest) {
+        // Nothing changed in the tenant since the client's copy: answer 304 without running the list query
+        if (listNotModified(webRequest, overdue)) {
+            return null;
+        }
 
         TaskFilterRequest filterRequest = TaskFilterRequest.builder()
                 .search(search)
@@ -155,15 +363,28 @@ public class TaskController {
                 .size(size)
                 .sortBy(sortBy)
                 .sortDirection(sortDirection)
+                .cursor(cursor)
+                .estimateTotal(ESTIMATED_PAGINATION.equalsIgnoreCase(pagination))
+                .fields(TaskFieldsResponseAdvice.parseFields(fields))
                 .build();
 
+        if (CURSOR_PAGINATION.equalsIgnoreCase(pagination)) {
+            CursorPageResponse<TaskResponse> response = taskService.getMyTasksByCursor(filterRequest);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        }
+
+        if (SLICE_PAGINATION.equalsIgnoreCase(pagination)) {
+            Slice<TaskResponse> response = taskService.getMyTasksSlice(filterRequest);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        }
+
         Page<TaskResponse> response = taskService.getMyTasks(filterRequest);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @GetMapping("/created-by-me")
     @Operation(summary = "Get tasks created by me", description = "Retrieves tasks created by the current user")
-    public ResponseEntity<ApiResponse<Page<TaskResponse>>> getTasksCreatedByMe(
+    public ResponseEntity<ApiResponse<?>> getTasksCreatedByMe(
             @Parameter(description = "Search term") @RequestParam(required = false) String search,
             @Parameter(description = "Task statuses") @RequestParam(required = false) java.util.List<TaskStatus> statuses,
             @Parameter(description = "Task priorities") @RequestParam(required = false) java.util.List<com.adewunmi.task_management_api.enums.TaskPriority> priorities,
@@ -176,7 +397,15 @@ public class TaskController {
             @Parameter(description = "Page number") @RequestParam(defaultValue = "0") Integer page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "20") Integer size,
             @Parameter(description = "Sort by field") @RequestParam(defaultValue = "createdAt") String sortBy,
-            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDirection) {
+            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDirection,
+            @Parameter(description = "Pagination mode: offset, cursor, slice (no total) or estimated (cached total)") @RequestParam(defaultValue = "offset") String pagination,
+            @Parameter(description = "Cursor returned by the previous page (cursor mode only)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Comma-separated response fields to return, e.g. id,title,status,priority,assignedTo,dueDate (default: all)") @RequestParam(required = false) String fields,
+            ServletWebRequest webRequest) {
+        // Nothing changed in the tenant since the client's copy: answer 304 without running the list query
+        if (listNotModified(webRequest, overdue)) {
+            return null;
+        }
 
         TaskFilterRequest filterRequest = TaskFilterRequest.builder()
                 .search(search)
@@ -192,9 +421,82 @@ public class TaskController {
                 .size(size)
                 .sortBy(sortBy)
                 .sortDirection(sortDirection)
+                .cursor(cursor)
+                .estimateTotal(ESTIMATED_PAGINATION.equalsIgnoreCase(pagination))
+                .fields(TaskFieldsResponseAdvice.parseFields(fields))
                 .build();
 
+        if (CURSOR_PAGINATION.equalsIgnoreCase(pagination)) {
+            CursorPageResponse<TaskResponse> response = taskService.getTasksCreatedByMeByCursor(filterRequest);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        }
+
+        if (SLICE_PAGINATION.equalsIgnoreCase(pagination)) {
+            Slice<TaskResponse> response = taskService.getTasksCreatedByMeSlice(filterRequest);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        }
+
         Page<TaskResponse> response = taskService.getTasksCreatedByMe(filterRequest);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+
+    /**
+     * Strong ETag of a task: its optimistic lock version, then its comment and attachment counts and a digest of
+     * the embedded creator and assignee, which are part of the representation but do not change the task's version
+     * (a user renaming themselves leaves the task row untouched). If-Match only reads the leading version.
+     */
+    private static String eTag(TaskResponse task) {
+        String users = userTag(task.getCreatedBy()) + "|" + userTag(task.getAssignedTo());
+        return "\"" + task.getVersion() + "." + task.getCommentCount() + "." + task.getAttachmentCount() + "."
+                + DigestUtils.md5DigestAsHex(users.getBytes(StandardCharsets.UTF_8)).substring(0, 8) + "\"";
+    }
+
+    private static String userTag(TaskResponse.UserSummary user) {
+        return user == null ? "" : user.getId() + "," + user.getFirstName() + "," + user.getLastName() + ","
+                + user.getEmail();
+    }
+
+    /**
+     * Whether the client's copy of a list is still current. An overdue list depends on the clock as well as on
+     * writes (tasks become overdue without any change), so it is never answered with 304 and gets no ETag.
+     */
+    private boolean listNotModified(ServletWebRequest webRequest, Boolean overdue) {
+        return !Boolean.TRUE.equals(overdue) && webRequest.checkNotModified(listETag(webRequest));
+    }
+
+    /**
+     * Weak ETag of a list response: the tenant's change counter plus a digest of what else shapes the list
+     * (path, query string and caller), so any committed change or a different query yields a new tag
+     */
+    private String listETag(ServletWebRequest webRequest) {
+        Long tenantId = TenantContext.getCurrentTenant();
+        HttpServletRequest request = webRequest.getRequest();
+        String caller = webRequest.getUserPrincipal() != null ? webRequest.getUserPrincipal().getName() : "";
+        String shape = tenantId + "|" + caller + "|" + request.getRequestURI() + "?"
+                + Objects.toString(request.getQueryString(), "");
+        return "W/\"" + tenantChangeCounterService.getChangeCount(tenantId) + "-"
+                + DigestUtils.md5DigestAsHex(shape.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Version named by an If-Match header, or null when the header is absent or "*".
+     * Only the version part of the tag is compared: comments and attachments do not conflict with task edits.
+     * If-Match uses strong comparison, so weak or unparseable tags can never match.
+     */
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                String value = tag.substring(1, tag.length() - 1);
+                int end = value.indexOf('.');
+                return Long.parseLong(end >= 0 ? value.substring(0, end) : value);
+            } catch (NumberFormatException ignored) {
+                // fall through
+            }
+        }
+        throw new PreconditionFailedException("If-Match " + tag + " does not match the current task version");
+    }
 }
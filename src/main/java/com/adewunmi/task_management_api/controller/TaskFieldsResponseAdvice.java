@@ -0,0 +1,57 @@
+package com.adewunmi.task_management_api.controller;
+
+import com.adewunmi.task_management_api.dto.response.TaskResponse;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Serializes only the requested fields of every TaskResponse in a TaskController response when the request
+ * carries a sparse fieldset (fields=...). The service has already skipped selecting the other columns.
+ */
+@RestControllerAdvice(assignableTypes = TaskController.class)
+public class TaskFieldsResponseAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    static final String FIELDS_PARAM = "fields";
+
+    /**
+     * Field names of a comma-separated fields parameter, or null when absent
+     */
+    static Set<String> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        return Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        Set<String> fields = parseFields(servletRequest.getServletRequest().getParameter(FIELDS_PARAM));
+        if (fields == null) {
+            return;
+        }
+        bodyContainer.setFilters(new SimpleFilterProvider()
+                .setFailOnUnknownId(false)
+                .addFilter(TaskResponse.FIELD_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(fields)));
+    }
+}
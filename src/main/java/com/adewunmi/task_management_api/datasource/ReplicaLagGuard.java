@@ -0,0 +1,122 @@
+package com.adewunmi.task_management_api.datasource;
+
+import com.adewunmi.task_management_api.multitenant.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides whether a read-only transaction may run on the replica.
+ * The replica's replay lag is probed in the background and must be known and within max-lag; on top of that,
+ * a tenant that committed a write within the read-your-writes window reads from the primary, so a client sees
+ * its own change even if the replica has not replayed it yet. Writes are tracked per instance; other instances
+ * only rely on the lag bound.
+ */
+@Slf4j
+public class ReplicaLagGuard {
+
+    /**
+     * Replay lag in milliseconds. It is 0 when the replica has replayed everything it received, so a quiet
+     * primary does not make it look further and further behind, and 0 on a database that is not a standby
+     * (two local databases standing in for primary and replica)
+     */
+    static final String LAG_QUERY = "SELECT COALESCE(CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() "
+            + "THEN 0 ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 END, 0)";
+
+    private static final long UNKNOWN_LAG = Long.MAX_VALUE;
+
+    // Writes made without a tenant (registration, scheduled jobs) are tracked under their own key
+    private static final Long NO_TENANT = 0L;
+
+    private final DataSource replicaDataSource;
+    private final long maxLagMillis;
+    private final long readYourWritesMillis;
+    private final Map<Long, Long> lastWriteByTenant = new ConcurrentHashMap<>();
+    private volatile long replicaLagMillis = UNKNOWN_LAG;
+
+    public ReplicaLagGuard(DataSource replicaDataSource, Duration maxLag, Duration readYourWritesWindow) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLagMillis = maxLag.toMillis();
+        this.readYourWritesMillis = readYourWritesWindow.toMillis();
+    }
+
+    /**
+     * Until the first successful check, and whenever a check fails, the lag counts as unknown and
+     * every read goes to the primary
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:PT1S}")
+    public void checkReplicaLag() {
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            resultSet.next();
+            recordReplicaLag(resultSet.getLong(1));
+        } catch (SQLException | RuntimeException e) {
+            if (replicaLagMillis != UNKNOWN_LAG) {
+                log.warn("Replica lag check failed; reading from the primary until it succeeds", e);
+            }
+            replicaLagMillis = UNKNOWN_LAG;
+        }
+
+        long cutoff = System.currentTimeMillis() - readYourWritesMillis;
+        lastWriteByTenant.values().removeIf(writtenAt -> writtenAt < cutoff);
+    }
+
+    public boolean canUseReplica(Long tenantId) {
+        if (replicaLagMillis > maxLagMillis) {
+            return false;
+        }
+        Long writtenAt = lastWriteByTenant.get(key(tenantId));
+        return writtenAt == null || System.currentTimeMillis() - writtenAt >= readYourWritesMillis;
+    }
+
+    /**
+     * Called when a read-write transaction takes a primary connection; once it commits, the current tenant
+     * reads from the primary for the read-your-writes window. Rolled back transactions change nothing.
+     */
+    public void onReadWriteTransaction() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        Long tenant = key(TenantContext.getCurrentTenant());
+        TransactionSynchronizationManager.bindResource(this, tenant);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lastWriteByTenant.put(tenant, System.currentTimeMillis());
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ReplicaLagGuard.this);
+            }
+        });
+    }
+
+    void recordReplicaLag(long lagMillis) {
+        boolean wasUsable = replicaLagMillis <= maxLagMillis;
+        boolean usable = lagMillis <= maxLagMillis;
+        replicaLagMillis = lagMillis;
+        if (wasUsable && !usable) {
+            log.warn("Replica is {} ms behind (max {} ms); reading from the primary", lagMillis, maxLagMillis);
+        } else if (!wasUsable && usable) {
+            log.info("Replica is {} ms behind; read-only transactions use it again", lagMillis);
+        }
+    }
+
+    private static Long key(Long tenantId) {
+        return tenantId != null ? tenantId : NO_TENANT;
+    }
+}
@@ -0,0 +1,39 @@
+package com.adewunmi.task_management_api.datasource;
+
+import com.adewunmi.task_management_api.multitenant.TenantContext;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends connections of read-only transactions to the replica when the lag guard allows it, and everything
+ * else (read-write transactions, work outside a transaction) to the primary.
+ * The read-only flag is only set once the transaction has begun, so this must sit behind a
+ * LazyConnectionDataSourceProxy, which defers picking a target until the first statement.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagGuard replicaLagGuard;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagGuard replicaLagGuard) {
+        this.replicaLagGuard = replicaLagGuard;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return replicaLagGuard.canUseReplica(TenantContext.getCurrentTenant()) ? Route.REPLICA : Route.PRIMARY;
+        }
+        replicaLagGuard.onReadWriteTransaction();
+        return Route.PRIMARY;
+    }
+}
@@ -0,0 +1,26 @@
+package com.adewunmi.task_management_api.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request object for assigning or unassigning many tasks at once")
+public class BulkAssignRequest {
+
+    @Schema(description = "Tasks to update; give either taskIds or filter", example = "[1, 2, 3]")
+    private List<Long> taskIds;
+
+    @Schema(description = "Update every task matching this filter (paging and sorting are ignored)")
+    private TaskFilterRequest filter;
+
+    @Schema(description = "User to assign the tasks to; null unassigns them", example = "5")
+    private Long assigneeId;
+}
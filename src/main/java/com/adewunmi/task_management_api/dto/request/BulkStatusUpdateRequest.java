@@ -0,0 +1,29 @@
+package com.adewunmi.task_management_api.dto.request;
+
+import com.adewunmi.task_management_api.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request object for changing the status of many tasks at once")
+public class BulkStatusUpdateRequest {
+
+    @Schema(description = "Tasks to update; give either taskIds or filter", example = "[1, 2, 3]")
+    private List<Long> taskIds;
+
+    @Schema(description = "Update every task matching this filter (paging and sorting are ignored)")
+    private TaskFilterRequest filter;
+
+    @NotNull(message = "Status is required")
+    @Schema(description = "New status", example = "COMPLETED")
+    private TaskStatus status;
+}
@@ -0,0 +1,23 @@
+package com.adewunmi.task_management_api.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request object for fetching many tasks by id in one call")
+public class TaskBatchGetRequest {
+
+    @NotEmpty(message = "At least one task id is required")
+    @Schema(description = "Task ids, in the order the results should come back", example = "[12, 7, 31]")
+    private List<@NotNull(message = "Task id must not be null") Long> ids;
+}
@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @Data
 @Builder
@@ -39,7 +40,7 @@ public class TaskFilterRequest {
     @Schema(description = "Filter by due date to", example = "2024-12-31T23:59:59")
     private LocalDateTime dueDateTo;
 
-    @Schema(description = "Filter by tags (comma-separated)", example = "backend,security")
+    @Schema(description = "Filter by tags (comma-separated, exact match on any tag)", example = "backend,security")
     private String tags;
 
     @Schema(description = "Filter overdue tasks only", example = "true")
@@ -54,9 +55,18 @@ public class TaskFilterRequest {
     @Schema(description = "Page size", example = "20", defaultValue = "20")
     private Integer size = 20;
 
-    @Schema(description = "Sort field", example = "dueDate", defaultValue = "createdAt")
+    @Schema(description = "Sort field ('relevance' ranks full-text search results)", example = "dueDate", defaultValue = "createdAt")
     private String sortBy = "createdAt";
 
     @Schema(description = "Sort direction (asc/desc)", example = "desc", defaultValue = "desc")
     private String sortDirection = "desc";
+
+    @Schema(description = "Opaque cursor returned by the previous page (cursor pagination only)")
+    private String cursor;
+
+    @Schema(description = "Report a cached, possibly stale total instead of running an exact COUNT", example = "false")
+    private Boolean estimateTotal;
+
+    @Schema(description = "Sparse fieldset: response fields to select and return; null returns every field", example = "[\"id\", \"title\", \"status\"]")
+    private Set<String> fields;
 }
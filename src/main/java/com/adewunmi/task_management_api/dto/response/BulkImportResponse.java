@@ -0,0 +1,45 @@
+package com.adewunmi.task_management_api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Result of a bulk task import")
+public class BulkImportResponse {
+
+    @Schema(description = "Rows received", example = "5000")
+    private int totalRows;
+
+    @Schema(description = "Rows inserted", example = "4998")
+    private int importedCount;
+
+    @Schema(description = "Rows rejected", example = "2")
+    private int failedCount;
+
+    @Schema(description = "Wall-clock time of the import in milliseconds", example = "1840")
+    private long durationMs;
+
+    @Schema(description = "Inserted rows per second", example = "2716.3")
+    private double rowsPerSecond;
+
+    @Schema(description = "Why each rejected row was rejected")
+    private List<RowError> errors;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        @Schema(description = "1-based position of the row in the request (CSV: excluding the header)", example = "17")
+        private int row;
+        private String message;
+    }
+}
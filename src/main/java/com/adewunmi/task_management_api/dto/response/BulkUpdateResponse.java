@@ -0,0 +1,42 @@
+package com.adewunmi.task_management_api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Result of a bulk status change or assignment")
+public class BulkUpdateResponse {
+
+    @Schema(description = "Tasks requested by id or matched by the filter", example = "120")
+    private int requestedCount;
+
+    @Schema(description = "Tasks updated", example = "117")
+    private int updatedCount;
+
+    @Schema(description = "Tasks left unchanged", example = "3")
+    private int rejectedCount;
+
+    @Schema(description = "Ids of the updated tasks")
+    private List<Long> updatedIds;
+
+    @Schema(description = "Why each rejected task was left unchanged")
+    private List<Rejection> rejected;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rejection {
+        @Schema(description = "Task ID", example = "42")
+        private Long taskId;
+        private String reason;
+    }
+}
@@ -0,0 +1,29 @@
+package com.adewunmi.task_management_api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Cursor based page of results (no total count)")
+public class CursorPageResponse<T> {
+
+    @Schema(description = "Items in this page")
+    private List<T> content;
+
+    @Schema(description = "Requested page size", example = "20")
+    private Integer size;
+
+    @Schema(description = "Whether another page exists after this one")
+    private Boolean hasNext;
+
+    @Schema(description = "Opaque cursor to pass back for the next page, null on the last page")
+    private String nextCursor;
+}
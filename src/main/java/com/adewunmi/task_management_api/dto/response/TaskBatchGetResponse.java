@@ -0,0 +1,41 @@
+package com.adewunmi.task_management_api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Tasks fetched by id, in request order")
+public class TaskBatchGetResponse {
+
+    @Schema(description = "Distinct task ids requested", example = "3")
+    private int requestedCount;
+
+    @Schema(description = "Tasks found in the current tenant", example = "2")
+    private int foundCount;
+
+    @Schema(description = "One result per distinct requested id, in request order")
+    private List<Result> results;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+        @Schema(description = "Requested task ID", example = "12")
+        private Long id;
+
+        @Schema(description = "False when the task does not exist, was deleted or belongs to another tenant")
+        private boolean found;
+
+        @Schema(description = "The task, when found")
+        private TaskResponse task;
+    }
+}
@@ -2,6 +2,7 @@ package com.adewunmi.task_management_api.dto.response;
 
 import com.adewunmi.task_management_api.enums.TaskPriority;
 import com.adewunmi.task_management_api.enums.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -9,14 +10,28 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "Response object containing task details")
+@JsonFilter(TaskResponse.FIELD_FILTER)
 public class TaskResponse {
 
+    /**
+     * Jackson filter id used to serialize only the fields of a sparse fieldset (fields=...)
+     */
+    public static final String FIELD_FILTER = "taskFields";
+
+    /**
+     * Field names a sparse fieldset may list
+     */
+    public static final Set<String> FIELDS = Set.of(
+            "id", "title", "description", "status", "priority", "dueDate", "createdBy", "assignedTo", "tags",
+            "completedAt", "commentCount", "attachmentCount", "createdAt", "updatedAt", "version");
+
     @Schema(description = "Task ID", example = "1")
     private Long id;
 
@@ -59,8 +74,11 @@ public class TaskResponse {
     @Schema(description = "Task last update timestamp")
     private LocalDateTime updatedAt;
 
+    @Schema(description = "Optimistic lock version, also sent as the ETag", example = "3")
+    private Long version;
+
     @Data
-    @Builder
+    @Builder(toBuilder = true)
     @NoArgsConstructor
     @AllArgsConstructor
     public static class UserSummary {
@@ -16,6 +16,12 @@ public class TaskAttachment extends BaseEntity {
     @JoinColumn(name = "task_id", nullable = false)
     private Task task;
 
+    // The task's tenant, copied because tenant_id is the partition key of this table (V18); set from the task on
+    // persist, and filtered on by the repository so reads touch one partition
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tenant_id", nullable = false, updatable = false)
+    private Tenant tenant;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "uploaded_by", nullable = false)
     private User uploadedBy;
@@ -32,4 +38,10 @@ public class TaskAttachment extends BaseEntity {
     @Column(nullable = false, length = 100)
     private String mimeType;
 
+    @PrePersist
+    void inheritTenant() {
+        if (tenant == null && task != null) {
+            tenant = task.getTenant();
+        }
+    }
 }
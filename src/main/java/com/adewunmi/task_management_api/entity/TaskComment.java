@@ -16,6 +16,12 @@ public class TaskComment extends BaseEntity {
     @JoinColumn(name = "task_id", nullable = false)
     private Task task;
 
+    // The task's tenant, copied because tenant_id is the partition key of this table (V18); set from the task on
+    // persist, and filtered on by the repository so reads touch one partition
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tenant_id", nullable = false, updatable = false)
+    private Tenant tenant;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -25,4 +31,11 @@ public class TaskComment extends BaseEntity {
 
     @Column(nullable = false)
     private Boolean edited = false;
+
+    @PrePersist
+    void inheritTenant() {
+        if (tenant == null && task != null) {
+            tenant = task.getTenant();
+        }
+    }
 }
@@ -0,0 +1,54 @@
+package com.adewunmi.task_management_api.entity;
+
+import com.adewunmi.task_management_api.enums.TaskPriority;
+import com.adewunmi.task_management_api.enums.TaskStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * Number of live tasks of a tenant with one status and priority, either over all tasks (assigneeId 0)
+ * or over the tasks assigned to one user. Written only through TaskCounterService.
+ */
+@Entity
+@Table(name = "tenant_task_counters")
+@IdClass(TaskCounter.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCounter {
+    public static final long ALL_ASSIGNEES = 0L;
+
+    @Id
+    @Column(name = "tenant_id")
+    private Long tenantId;
+
+    @Id
+    @Column(name = "assignee_id")
+    private Long assigneeId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private TaskStatus status;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private TaskPriority priority;
+
+    @Column(name = "task_count", nullable = false)
+    private Long taskCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long tenantId;
+        private Long assigneeId;
+        private TaskStatus status;
+        private TaskPriority priority;
+    }
+}
@@ -0,0 +1,59 @@
+package com.adewunmi.task_management_api.entity;
+
+import com.adewunmi.task_management_api.enums.TaskRollupMetric;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Number of live tasks of a tenant counted under one metric on one day, in total (userId 0, tag empty),
+ * per user (creator or assignee) or per tag. Written only through TaskCounterService.
+ */
+@Entity
+@Table(name = "task_daily_rollups")
+@IdClass(TaskDailyRollup.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDailyRollup {
+    public static final long ALL_USERS = 0L;
+    public static final String ALL_TAGS = "";
+
+    @Id
+    @Column(name = "tenant_id")
+    private Long tenantId;
+
+    @Id
+    @Column(name = "rollup_date")
+    private LocalDate rollupDate;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private TaskRollupMetric metric;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(length = 100)
+    private String tag;
+
+    @Column(name = "task_count", nullable = false)
+    private Long taskCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long tenantId;
+        private LocalDate rollupDate;
+        private TaskRollupMetric metric;
+        private Long userId;
+        private String tag;
+    }
+}
@@ -0,0 +1,35 @@
+package com.adewunmi.task_management_api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Normalized tag of a task, kept in sync with the comma-separated Task.tags column
+ */
+@Entity
+@Table(name = "task_tags", uniqueConstraints = {
+        @UniqueConstraint(columnNames = { "task_id", "tag" })
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskTag {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_tags_id_seq")
+    @SequenceGenerator(name = "task_tags_id_seq", sequenceName = "task_tags_id_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tenant_id", nullable = false)
+    private Tenant tenant;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id", nullable = false)
+    private Task task;
+
+    @Column(nullable = false, length = 100)
+    private String tag;
+}
@@ -2,12 +2,17 @@ package com.adewunmi.task_management_api.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
 @Table(name = "tenants")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tenants")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -34,4 +39,13 @@ public class Tenant extends BaseEntity {
 
     @Column(name = "max_storage_mb")
     private Long maxStorageMb = 1024L;
+
+    /**
+     * Bumped after every committed change to the tenant's tasks; list ETags are derived from it.
+     * Maintained only through TenantRepository#incrementChangeCount and read only through
+     * TenantRepository#findChangeCountById: the copy in a cached Tenant is not kept current.
+     */
+    @ColumnDefault("0")
+    @Column(name = "change_count", nullable = false, insertable = false, updatable = false)
+    private Long changeCount;
 }
@@ -0,0 +1,12 @@
+package com.adewunmi.task_management_api.enums;
+
+/**
+ * What a task_daily_rollups row counts: tasks created on the day (in total, per creator, per assignee and
+ * per tag) and tasks completed on the day
+ */
+public enum TaskRollupMetric {
+    CREATED,
+    ASSIGNED,
+    TAGGED,
+    COMPLETED
+}
@@ -0,0 +1,7 @@
+package com.adewunmi.task_management_api.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -4,6 +4,7 @@ import com.adewunmi.task_management_api.entity.AuditLog;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -22,4 +23,17 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
 
     Page<AuditLog> findByTenantIdAndActionOrderByTimestampDesc(
             Long tenantId, String action, Pageable pageable);
+
+    // Slice variants fetch one extra row instead of running a COUNT query
+
+    Slice<AuditLog> findSliceByTenantIdOrderByTimestampDesc(Long tenantId, Pageable pageable);
+
+    Slice<AuditLog> findSliceByTenantIdAndEntityTypeAndEntityIdOrderByTimestampDesc(
+            Long tenantId, String entityType, Long entityId, Pageable pageable);
+
+    Slice<AuditLog> findSliceByTenantIdAndUserIdOrderByTimestampDesc(
+            Long tenantId, Long userId, Pageable pageable);
+
+    Slice<AuditLog> findSliceByTenantIdAndActionOrderByTimestampDesc(
+            Long tenantId, String action, Pageable pageable);
 }
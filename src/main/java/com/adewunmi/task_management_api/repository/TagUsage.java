@@ -0,0 +1,11 @@
+package com.adewunmi.task_management_api.repository;
+
+/**
+ * Projection for tag usage counts
+ */
+public interface TagUsage {
+
+    String getTag();
+
+    Long getCount();
+}
@@ -1,14 +1,21 @@
 package com.adewunmi.task_management_api.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.adewunmi.task_management_api.entity.TaskAttachment;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,15 +24,44 @@ public interface TaskAttachmentRepository extends JpaRepository<TaskAttachment,
 
     List<TaskAttachment> findByTaskId(Long taskId);
 
-    @Query("SELECT a FROM TaskAttachment a WHERE a.task.id = :taskId AND a.deletedAt IS NULL ORDER BY a.createdAt DESC")
-    Page<TaskAttachment> findByTaskIdAndDeletedAtIsNull(@Param("taskId") Long taskId, Pageable pageable);
+    // Every tenant-scoped query filters on the attachment's own tenant_id, the partition key (V18), so PostgreSQL
+    // reads one partition instead of probing all of them
 
-    @Query("SELECT a FROM TaskAttachment a WHERE a.task.id = :taskId AND a.deletedAt IS NULL ORDER BY a.createdAt DESC")
-    List<TaskAttachment> findByTaskIdAndDeletedAtIsNullOrderByCreatedAtDesc(@Param("taskId") Long taskId);
+    @Query("SELECT a FROM TaskAttachment a WHERE a.task.id = :taskId AND a.tenant.id = :tenantId " +
+           "AND a.deletedAt IS NULL ORDER BY a.createdAt DESC")
+    Page<TaskAttachment> findByTaskIdAndDeletedAtIsNull(@Param("taskId") Long taskId,
+            @Param("tenantId") Long tenantId, Pageable pageable);
 
-    @Query("SELECT a FROM TaskAttachment a WHERE a.id = :id AND a.task.tenant.id = :tenantId AND a.deletedAt IS NULL")
+    @Query("SELECT a FROM TaskAttachment a WHERE a.task.id = :taskId AND a.tenant.id = :tenantId " +
+           "AND a.deletedAt IS NULL ORDER BY a.createdAt DESC")
+    Slice<TaskAttachment> findSliceByTaskIdAndDeletedAtIsNull(@Param("taskId") Long taskId,
+            @Param("tenantId") Long tenantId, Pageable pageable);
+
+    @Query("SELECT a FROM TaskAttachment a WHERE a.task.id = :taskId AND a.tenant.id = :tenantId " +
+           "AND a.deletedAt IS NULL ORDER BY a.createdAt DESC")
+    List<TaskAttachment> findByTaskIdAndDeletedAtIsNullOrderByCreatedAtDesc(@Param("taskId") Long taskId,
+            @Param("tenantId") Long tenantId);
+
+    @Query("SELECT a FROM TaskAttachment a WHERE a.id = :id AND a.tenant.id = :tenantId AND a.deletedAt IS NULL")
     Optional<TaskAttachment> findByIdAndTenantId(@Param("id") Long id, @Param("tenantId") Long tenantId);
 
-    @Query("SELECT COUNT(a) FROM TaskAttachment a WHERE a.task.id = :taskId AND a.deletedAt IS NULL")
-    Long countByTaskIdAndDeletedAtIsNull(@Param("taskId") Long taskId);
+    @Query("SELECT COUNT(a) FROM TaskAttachment a WHERE a.task.id = :taskId AND a.tenant.id = :tenantId " +
+           "AND a.deletedAt IS NULL")
+    Long countByTaskIdAndDeletedAtIsNull(@Param("taskId") Long taskId, @Param("tenantId") Long tenantId);
+
+    @Query("SELECT a.task.id AS taskId, COUNT(a) AS count FROM TaskAttachment a " +
+           "WHERE a.task.id IN :taskIds AND a.tenant.id = :tenantId AND a.deletedAt IS NULL GROUP BY a.task.id")
+    List<TaskIdCount> countByTaskIds(@Param("taskIds") Collection<Long> taskIds, @Param("tenantId") Long tenantId);
+
+    // Stored files stay where they are; archived rows keep their file_path
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_attachments_archive"))
+    @Query(value = "INSERT INTO task_attachments_archive (id, task_id, uploaded_by, file_name, file_path, file_size, " +
+                   "mime_type, created_at, updated_at, deleted_at, version, archived_at) " +
+                   "SELECT id, task_id, uploaded_by, file_name, file_path, file_size, mime_type, created_at, " +
+                   "updated_at, deleted_at, version, :now FROM task_attachments " +
+                   "WHERE task_id IN :taskIds AND tenant_id = :tenantId",
+           nativeQuery = true)
+    int copyToArchiveByTaskIds(@Param("taskIds") Collection<Long> taskIds, @Param("tenantId") Long tenantId,
+            @Param("now") LocalDateTime now);
 }
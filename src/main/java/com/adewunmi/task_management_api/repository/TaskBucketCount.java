@@ -0,0 +1,20 @@
+package com.adewunmi.task_management_api.repository;
+
+import com.adewunmi.task_management_api.enums.TaskPriority;
+import com.adewunmi.task_management_api.enums.TaskStatus;
+
+/**
+ * Projection for the number of tasks of a tenant with one status, priority and assignee (null when unassigned)
+ */
+public interface TaskBucketCount {
+
+    Long getTenantId();
+
+    Long getAssigneeId();
+
+    TaskStatus getStatus();
+
+    TaskPriority getPriority();
+
+    Long getTaskCount();
+}
@@ -0,0 +1,28 @@
+package com.adewunmi.task_management_api.repository;
+
+import com.adewunmi.task_management_api.enums.TaskPriority;
+import com.adewunmi.task_management_api.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection for the counted fields of one live task, read before a set-based update or delete
+ */
+public interface TaskBucketRow {
+
+    Long getTenantId();
+
+    TaskStatus getStatus();
+
+    TaskPriority getPriority();
+
+    Long getAssigneeId();
+
+    Long getCreatorId();
+
+    String getTags();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getCompletedAt();
+}
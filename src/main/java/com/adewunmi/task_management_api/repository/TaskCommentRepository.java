@@ -1,13 +1,20 @@
 package com.adewunmi.task_management_api.repository;
 
 import com.adewunmi.task_management_api.entity.TaskComment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,13 +23,37 @@ public interface TaskCommentRepository extends JpaRepository<TaskComment, Long>
 
     List<TaskComment> findByTaskIdOrderByCreatedAtDesc(Long taskId);
 
-    @Query("SELECT c FROM TaskComment c WHERE c.task.id = :taskId AND c.deletedAt IS NULL ORDER BY c.createdAt DESC")
-    Page<TaskComment> findByTaskIdAndDeletedAtIsNull(@Param("taskId") Long taskId, Pageable pageable);
+    // Every tenant-scoped query filters on the comment's own tenant_id, the partition key (V18), so PostgreSQL
+    // reads one partition instead of probing all of them
 
-    @Query("SELECT c FROM TaskComment c WHERE c.id = :id AND c.task.tenant.id = :tenantId AND c.deletedAt IS NULL")
+    @Query("SELECT c FROM TaskComment c WHERE c.task.id = :taskId AND c.tenant.id = :tenantId AND c.deletedAt IS NULL " +
+           "ORDER BY c.createdAt DESC")
+    Page<TaskComment> findByTaskIdAndDeletedAtIsNull(@Param("taskId") Long taskId, @Param("tenantId") Long tenantId,
+            Pageable pageable);
+
+    @Query("SELECT c FROM TaskComment c WHERE c.task.id = :taskId AND c.tenant.id = :tenantId AND c.deletedAt IS NULL " +
+           "ORDER BY c.createdAt DESC")
+    Slice<TaskComment> findSliceByTaskIdAndDeletedAtIsNull(@Param("taskId") Long taskId,
+            @Param("tenantId") Long tenantId, Pageable pageable);
+
+    @Query("SELECT c FROM TaskComment c WHERE c.id = :id AND c.tenant.id = :tenantId AND c.deletedAt IS NULL")
     Optional<TaskComment> findByIdAndTenantId(@Param("id") Long id, @Param("tenantId") Long tenantId);
 
-    @Query("SELECT COUNT(c) FROM TaskComment c WHERE c.task.id = :taskId AND c.deletedAt IS NULL")
-    Long countByTaskIdAndDeletedAtIsNull(@Param("taskId") Long taskId);
+    @Query("SELECT COUNT(c) FROM TaskComment c WHERE c.task.id = :taskId AND c.tenant.id = :tenantId " +
+           "AND c.deletedAt IS NULL")
+    Long countByTaskIdAndDeletedAtIsNull(@Param("taskId") Long taskId, @Param("tenantId") Long tenantId);
+
+    @Query("SELECT c.task.id AS taskId, COUNT(c) AS count FROM TaskComment c " +
+           "WHERE c.task.id IN :taskIds AND c.tenant.id = :tenantId AND c.deletedAt IS NULL GROUP BY c.task.id")
+    List<TaskIdCount> countByTaskIds(@Param("taskIds") Collection<Long> taskIds, @Param("tenantId") Long tenantId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_comments_archive"))
+    @Query(value = "INSERT INTO task_comments_archive (id, task_id, user_id, content, edited, created_at, " +
+                   "updated_at, deleted_at, version, archived_at) " +
+                   "SELECT id, task_id, user_id, content, edited, created_at, updated_at, deleted_at, version, :now " +
+                   "FROM task_comments WHERE task_id IN :taskIds AND tenant_id = :tenantId", nativeQuery = true)
+    int copyToArchiveByTaskIds(@Param("taskIds") Collection<Long> taskIds, @Param("tenantId") Long tenantId,
+            @Param("now") LocalDateTime now);
 
 }
@@ -0,0 +1,16 @@
+package com.adewunmi.task_management_api.repository;
+
+import com.adewunmi.task_management_api.enums.TaskPriority;
+import com.adewunmi.task_management_api.enums.TaskStatus;
+
+/**
+ * Projection for the number of tasks with one status and priority
+ */
+public interface TaskCountRow {
+
+    TaskStatus getStatus();
+
+    TaskPriority getPriority();
+
+    Long getTaskCount();
+}
@@ -0,0 +1,69 @@
+package com.adewunmi.task_management_api.repository;
+
+import com.adewunmi.task_management_api.entity.TaskCounter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TaskCounterRepository extends JpaRepository<TaskCounter, TaskCounter.Key> {
+
+    // Advisory lock class of the per-tenant counter lock, in the top bits of a single bigint key whose low 48 bits
+    // are the tenant id; the two-key form takes int keys and would overflow on ids past 2^31 - 1
+    int TENANT_LOCK_CLASS = 7301;
+    String TENANT_LOCK_KEY = "(CAST(" + TENANT_LOCK_CLASS + " AS bigint) << 48) | CAST(:tenantId AS bigint)";
+
+    @Query("SELECT c.status AS status, c.priority AS priority, c.taskCount AS taskCount FROM TaskCounter c " +
+           "WHERE c.tenantId = :tenantId AND c.assigneeId = :assigneeId AND c.taskCount <> 0")
+    List<TaskCountRow> findCounts(@Param("tenantId") Long tenantId, @Param("assigneeId") Long assigneeId);
+
+    @Query("SELECT c.tenantId AS tenantId, c.assigneeId AS assigneeId, c.status AS status, c.priority AS priority, " +
+           "c.taskCount AS taskCount FROM TaskCounter c WHERE c.tenantId = :tenantId AND c.taskCount <> 0")
+    List<TaskBucketCount> findAllCounts(@Param("tenantId") Long tenantId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tenant_task_counters"))
+    @Query(value = "INSERT INTO tenant_task_counters (tenant_id, assignee_id, status, priority, task_count) " +
+                   "VALUES (:tenantId, :assigneeId, :status, :priority, :delta) " +
+                   "ON CONFLICT (tenant_id, assignee_id, status, priority) " +
+                   "DO UPDATE SET task_count = tenant_task_counters.task_count + EXCLUDED.task_count",
+           nativeQuery = true)
+    int addToCount(@Param("tenantId") Long tenantId, @Param("assigneeId") Long assigneeId,
+            @Param("status") String status, @Param("priority") String priority, @Param("delta") long delta);
+
+    /**
+     * Shared by every transaction that changes the tenant's counters; the reconciliation takes it exclusively
+     * so it recounts while no counted change is in flight
+     */
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock_shared(" + TENANT_LOCK_KEY + ")) AS l",
+           nativeQuery = true)
+    Integer lockTenantShared(@Param("tenantId") Long tenantId);
+
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(" + TENANT_LOCK_KEY + ")) AS l",
+           nativeQuery = true)
+    Integer lockTenantExclusive(@Param("tenantId") Long tenantId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tenant_task_counters"))
+    @Query(value = "DELETE FROM tenant_task_counters WHERE tenant_id = :tenantId", nativeQuery = true)
+    int deleteByTenant(@Param("tenantId") Long tenantId);
+
+    // Same counts as the V19 backfill, for one tenant
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tenant_task_counters"))
+    @Query(value = "INSERT INTO tenant_task_counters (tenant_id, assignee_id, status, priority, task_count) " +
+                   "SELECT tenant_id, " + TaskCounter.ALL_ASSIGNEES + ", status, priority, count(*) FROM tasks " +
+                   "WHERE tenant_id = :tenantId AND deleted_at IS NULL GROUP BY tenant_id, status, priority " +
+                   "UNION ALL " +
+                   "SELECT tenant_id, assigned_to, status, priority, count(*) FROM tasks " +
+                   "WHERE tenant_id = :tenantId AND deleted_at IS NULL AND assigned_to IS NOT NULL " +
+                   "GROUP BY tenant_id, assigned_to, status, priority", nativeQuery = true)
+    int recount(@Param("tenantId") Long tenantId);
+}
@@ -0,0 +1,105 @@
+package com.adewunmi.task_management_api.repository;
+
+import com.adewunmi.task_management_api.entity.TaskDailyRollup;
+import com.adewunmi.task_management_api.enums.TaskRollupMetric;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TaskDailyRollupRepository extends JpaRepository<TaskDailyRollup, TaskDailyRollup.Key> {
+
+    // The rollup rows of one tenant recounted from its live tasks, in the same shape as the V20 backfill
+    String RECOUNT = "SELECT tenant_id, CAST(created_at AS date) AS rollup_date, 'CREATED' AS metric, " +
+            "0 AS user_id, '' AS tag, count(*) AS task_count " +
+            "FROM tasks WHERE tenant_id = :tenantId AND deleted_at IS NULL " +
+            "GROUP BY tenant_id, CAST(created_at AS date) " +
+            "UNION ALL " +
+            "SELECT tenant_id, CAST(created_at AS date), 'CREATED', created_by, '', count(*) " +
+            "FROM tasks WHERE tenant_id = :tenantId AND deleted_at IS NULL " +
+            "GROUP BY tenant_id, CAST(created_at AS date), created_by " +
+            "UNION ALL " +
+            "SELECT tenant_id, CAST(created_at AS date), 'ASSIGNED', assigned_to, '', count(*) " +
+            "FROM tasks WHERE tenant_id = :tenantId AND deleted_at IS NULL AND assigned_to IS NOT NULL " +
+            "GROUP BY tenant_id, CAST(created_at AS date), assigned_to " +
+            "UNION ALL " +
+            "SELECT t.tenant_id, CAST(t.created_at AS date), 'TAGGED', 0, tt.tag, count(*) " +
+            "FROM task_tags tt JOIN tasks t ON t.tenant_id = tt.tenant_id AND t.id = tt.task_id " +
+            "WHERE t.tenant_id = :tenantId AND t.deleted_at IS NULL " +
+            "GROUP BY t.tenant_id, CAST(t.created_at AS date), tt.tag " +
+            "UNION ALL " +
+            "SELECT tenant_id, CAST(completed_at AS date), 'COMPLETED', 0, '', count(*) " +
+            "FROM tasks WHERE tenant_id = :tenantId AND deleted_at IS NULL AND completed_at IS NOT NULL " +
+            "GROUP BY tenant_id, CAST(completed_at AS date)";
+
+    String STORED = "SELECT tenant_id, rollup_date, metric, user_id, tag, task_count FROM task_daily_rollups " +
+            "WHERE tenant_id = :tenantId AND task_count <> 0";
+
+    @Query("SELECT r.rollupDate AS rollupDate, r.taskCount AS taskCount FROM TaskDailyRollup r " +
+           "WHERE r.tenantId = :tenantId AND r.metric = :metric AND r.userId = 0 AND r.tag = '' " +
+           "AND r.rollupDate BETWEEN :from AND :to AND r.taskCount <> 0 ORDER BY r.rollupDate")
+    List<TaskDayCount> findDailyCounts(@Param("tenantId") Long tenantId, @Param("metric") TaskRollupMetric metric,
+            @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Ranking and display names in one round trip; the join only touches the k users on the page
+    @Query("SELECT r.userId AS userId, CONCAT(u.firstName, ' ', u.lastName) AS userName, " +
+           "SUM(r.taskCount) AS taskCount FROM TaskDailyRollup r LEFT JOIN User u ON u.id = r.userId " +
+           "WHERE r.tenantId = :tenantId AND r.metric = :metric AND r.userId <> 0 " +
+           "AND r.rollupDate BETWEEN :from AND :to " +
+           "GROUP BY r.userId, u.firstName, u.lastName HAVING SUM(r.taskCount) > 0 " +
+           "ORDER BY SUM(r.taskCount) DESC, r.userId")
+    List<TaskUserCount> findTopUsers(@Param("tenantId") Long tenantId, @Param("metric") TaskRollupMetric metric,
+            @Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+    @Query("SELECT r.tag AS tag, SUM(r.taskCount) AS count FROM TaskDailyRollup r " +
+           "WHERE r.tenantId = :tenantId AND r.metric = com.adewunmi.task_management_api.enums.TaskRollupMetric.TAGGED " +
+           "AND r.rollupDate BETWEEN :from AND :to " +
+           "GROUP BY r.tag HAVING SUM(r.taskCount) > 0 ORDER BY SUM(r.taskCount) DESC, r.tag")
+    List<TagUsage> findTopTags(@Param("tenantId") Long tenantId, @Param("from") LocalDate from,
+            @Param("to") LocalDate to, Pageable pageable);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_daily_rollups"))
+    @Query(value = "INSERT INTO task_daily_rollups (tenant_id, rollup_date, metric, user_id, tag, task_count) " +
+                   "VALUES (:tenantId, :rollupDate, :metric, :userId, :tag, :delta) " +
+                   "ON CONFLICT (tenant_id, metric, rollup_date, user_id, tag) " +
+                   "DO UPDATE SET task_count = task_daily_rollups.task_count + EXCLUDED.task_count",
+           nativeQuery = true)
+    int addToCount(@Param("tenantId") Long tenantId, @Param("rollupDate") LocalDate rollupDate,
+            @Param("metric") String metric, @Param("userId") Long userId, @Param("tag") String tag,
+            @Param("delta") long delta);
+
+    // Reassignments, completions that are reopened and deletes leave rows at zero behind
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_daily_rollups"))
+    @Query(value = "DELETE FROM task_daily_rollups WHERE tenant_id = :tenantId AND task_count = 0", nativeQuery = true)
+    int deleteZeroCounts(@Param("tenantId") Long tenantId);
+
+    /**
+     * Number of rows that differ between the stored rollups and a recount, computed in the database so a
+     * tenant's full history is never loaded
+     */
+    @Query(value = "SELECT count(*) FROM (((" + RECOUNT + ") EXCEPT " + STORED + ") " +
+                   "UNION ALL (" + STORED + " EXCEPT (" + RECOUNT + "))) AS drift", nativeQuery = true)
+    long countDrift(@Param("tenantId") Long tenantId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_daily_rollups"))
+    @Query(value = "DELETE FROM task_daily_rollups WHERE tenant_id = :tenantId", nativeQuery = true)
+    int deleteByTenant(@Param("tenantId") Long tenantId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_daily_rollups"))
+    @Query(value = "INSERT INTO task_daily_rollups (tenant_id, rollup_date, metric, user_id, tag, task_count) " +
+                   RECOUNT, nativeQuery = true)
+    int recount(@Param("tenantId") Long tenantId);
+}
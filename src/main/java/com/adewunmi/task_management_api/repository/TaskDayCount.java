@@ -0,0 +1,13 @@
+package com.adewunmi.task_management_api.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Projection for the number of tasks counted on one day
+ */
+public interface TaskDayCount {
+
+    LocalDate getRollupDate();
+
+    Long getTaskCount();
+}
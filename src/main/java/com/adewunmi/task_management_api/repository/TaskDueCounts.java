@@ -0,0 +1,13 @@
+package com.adewunmi.task_management_api.repository;
+
+/**
+ * Projection for the due date counters of the dashboard
+ */
+public interface TaskDueCounts {
+
+    Long getOverdue();
+
+    Long getDueToday();
+
+    Long getDueThisWeek();
+}
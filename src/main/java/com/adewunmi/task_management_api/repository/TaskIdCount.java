@@ -0,0 +1,11 @@
+package com.adewunmi.task_management_api.repository;
+
+/**
+ * Projection for per-task aggregate counts (comments, attachments)
+ */
+public interface TaskIdCount {
+
+    Long getTaskId();
+
+    Long getCount();
+}
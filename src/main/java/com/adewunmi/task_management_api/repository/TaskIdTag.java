@@ -0,0 +1,11 @@
+package com.adewunmi.task_management_api.repository;
+
+/**
+ * Projection of a single (task, tag) pair
+ */
+public interface TaskIdTag {
+
+    Long getTaskId();
+
+    String getTag();
+}
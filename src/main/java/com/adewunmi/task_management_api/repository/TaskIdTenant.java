@@ -0,0 +1,11 @@
+package com.adewunmi.task_management_api.repository;
+
+/**
+ * Projection for a task id with its tenant
+ */
+public interface TaskIdTenant {
+
+    Long getId();
+
+    Long getTenantId();
+}
@@ -0,0 +1,26 @@
+package com.adewunmi.task_management_api.repository;
+
+import com.adewunmi.task_management_api.enums.TaskPriority;
+import com.adewunmi.task_management_api.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the task columns held by the in-memory filter index
+ */
+public interface TaskIndexRow {
+
+    Long getId();
+
+    TaskStatus getStatus();
+
+    TaskPriority getPriority();
+
+    Long getAssigneeId();
+
+    Long getCreatorId();
+
+    LocalDateTime getDueDate();
+
+    LocalDateTime getCreatedAt();
+}
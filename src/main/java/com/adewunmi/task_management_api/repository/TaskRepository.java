@@ -1,27 +1,47 @@
 package com.adewunmi.task_management_api.repository;
 
 import com.adewunmi.task_management_api.entity.Task;
+import com.adewunmi.task_management_api.entity.User;
 import com.adewunmi.task_management_api.enums.TaskStatus;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskRepositoryCustom {
+
+    // The time-dependent dashboard counters, which cannot be kept in tenant_task_counters; every one of them
+    // needs a due date before the end of the week, so this is a range scan of idx_tasks_tenant_due_date
+    String DUE_DATE_COUNTS = "SELECT count(*) FILTER (WHERE due_date < :now AND status <> 'COMPLETED') AS \"overdue\", " +
+            "count(*) FILTER (WHERE due_date > :now AND due_date < :todayEnd) AS \"dueToday\", " +
+            "count(*) FILTER (WHERE due_date > :now) AS \"dueThisWeek\" " +
+            "FROM tasks WHERE tenant_id = :tenantId AND deleted_at IS NULL AND due_date < :weekEnd ";
 
     @Query("SELECT t FROM Task t WHERE t.tenant.id = :tenantId AND t.deletedAt IS NULL")
     Page<Task> findByTenantId(@Param("tenantId") Long tenantId, Pageable pageable);
 
+    @Override
+    @EntityGraph(Task.WITH_USERS_GRAPH)
+    Page<Task> findAll(Specification<Task> spec, Pageable pageable);
+
+    @EntityGraph(Task.WITH_USERS_GRAPH)
     @Query("SELECT t FROM Task t WHERE t.id = :id AND t.tenant.id = :tenantId AND t.deletedAt IS NULL")
     Optional<Task> findByIdAndTenantId(@Param("id") Long id, @Param("tenantId") Long tenantId);
 
@@ -37,6 +57,101 @@ public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificat
     List<Task> findTasksDueBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end,
             @Param("tenantId") Long tenantId);
 
+    @Query("SELECT t.id AS id, t.status AS status, t.priority AS priority, a.id AS assigneeId, " +
+           "c.id AS creatorId, t.dueDate AS dueDate, t.createdAt AS createdAt " +
+           "FROM Task t JOIN t.createdBy c LEFT JOIN t.assignedTo a " +
+           "WHERE t.tenant.id = :tenantId AND t.deletedAt IS NULL")
+    List<TaskIndexRow> findIndexRowsByTenantId(@Param("tenantId") Long tenantId);
+
+    @Query("SELECT t.id FROM Task t WHERE t.tenant.id = :tenantId AND t.deletedAt IS NULL " +
+           "AND (t.createdBy.id = :userId OR t.assignedTo.id = :userId)")
+    List<Long> findIdsByUserIdAndTenantId(@Param("userId") Long userId, @Param("tenantId") Long tenantId);
+
+    @Query(value = DUE_DATE_COUNTS, nativeQuery = true)
+    TaskDueCounts countDueDates(@Param("tenantId") Long tenantId, @Param("now") LocalDateTime now,
+            @Param("todayEnd") LocalDateTime todayEnd, @Param("weekEnd") LocalDateTime weekEnd);
+
+    @Query(value = DUE_DATE_COUNTS + "AND assigned_to = :userId", nativeQuery = true)
+    TaskDueCounts countDueDatesAssignedTo(@Param("tenantId") Long tenantId, @Param("userId") Long userId,
+            @Param("now") LocalDateTime now, @Param("todayEnd") LocalDateTime todayEnd,
+            @Param("weekEnd") LocalDateTime weekEnd);
+
+    @Query("SELECT t.status AS status, t.priority AS priority, COUNT(t) AS taskCount FROM Task t " +
+           "WHERE t.tenant.id = :tenantId AND t.deletedAt IS NULL GROUP BY t.status, t.priority")
+    List<TaskCountRow> countByStatusAndPriority(@Param("tenantId") Long tenantId);
+
+    @Query("SELECT t.status AS status, t.priority AS priority, COUNT(t) AS taskCount FROM Task t " +
+           "WHERE t.tenant.id = :tenantId AND t.assignedTo.id = :assigneeId AND t.deletedAt IS NULL " +
+           "GROUP BY t.status, t.priority")
+    List<TaskCountRow> countByStatusAndPriorityAssignedTo(@Param("tenantId") Long tenantId,
+            @Param("assigneeId") Long assigneeId);
+
+    @Query("SELECT t.tenant.id AS tenantId, a.id AS assigneeId, t.status AS status, t.priority AS priority, " +
+           "COUNT(t) AS taskCount FROM Task t LEFT JOIN t.assignedTo a " +
+           "WHERE t.tenant.id = :tenantId AND t.deletedAt IS NULL GROUP BY t.tenant.id, a.id, t.status, t.priority")
+    List<TaskBucketCount> countBucketsByTenantId(@Param("tenantId") Long tenantId);
+
+    @Query("SELECT t.tenant.id AS tenantId, t.status AS status, t.priority AS priority, a.id AS assigneeId, " +
+           "c.id AS creatorId, t.tags AS tags, t.createdAt AS createdAt, t.completedAt AS completedAt " +
+           "FROM Task t JOIN t.createdBy c LEFT JOIN t.assignedTo a " +
+           "WHERE t.id IN :ids AND t.tenant.id = :tenantId AND t.deletedAt IS NULL")
+    List<TaskBucketRow> findBucketRowsByIds(@Param("ids") Collection<Long> ids, @Param("tenantId") Long tenantId);
+
+    // Live per-day and per-user analytics counts, used when task_daily_rollups is not maintained
+
+    @Query("SELECT CAST(t.createdAt AS LocalDate) AS rollupDate, COUNT(t) AS taskCount FROM Task t " +
+           "WHERE t.tenant.id = :tenantId AND t.deletedAt IS NULL AND t.createdAt BETWEEN :start AND :end " +
+           "GROUP BY CAST(t.createdAt AS LocalDate) ORDER BY CAST(t.createdAt AS LocalDate)")
+    List<TaskDayCount> countCreatedByDay(@Param("tenantId") Long tenantId, @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    @Query("SELECT CAST(t.completedAt AS LocalDate) AS rollupDate, COUNT(t) AS taskCount FROM Task t " +
+           "WHERE t.tenant.id = :tenantId AND t.deletedAt IS NULL AND t.completedAt BETWEEN :start AND :end " +
+           "GROUP BY CAST(t.completedAt AS LocalDate) ORDER BY CAST(t.completedAt AS LocalDate)")
+    List<TaskDayCount> countCompletedByDay(@Param("tenantId") Long tenantId, @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    @Query("SELECT c.id AS userId, CONCAT(c.firstName, ' ', c.lastName) AS userName, COUNT(t) AS taskCount " +
+           "FROM Task t JOIN t.createdBy c " +
+           "WHERE t.tenant.id = :tenantId AND t.deletedAt IS NULL AND t.createdAt BETWEEN :start AND :end " +
+           "GROUP BY c.id, c.firstName, c.lastName ORDER BY COUNT(t) DESC, c.id")
+    List<TaskUserCount> countTopCreators(@Param("tenantId") Long tenantId, @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end, Pageable pageable);
+
+    @Query("SELECT a.id AS userId, CONCAT(a.firstName, ' ', a.lastName) AS userName, COUNT(t) AS taskCount " +
+           "FROM Task t JOIN t.assignedTo a " +
+           "WHERE t.tenant.id = :tenantId AND t.deletedAt IS NULL AND t.createdAt BETWEEN :start AND :end " +
+           "GROUP BY a.id, a.firstName, a.lastName ORDER BY COUNT(t) DESC, a.id")
+    List<TaskUserCount> countTopAssignees(@Param("tenantId") Long tenantId, @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end, Pageable pageable);
+
+    // Set-based bulk updates; they bypass entity auditing and versioning, so updatedAt and version are set explicitly
+    @Modifying
+    @Query("UPDATE Task t SET t.completedAt = CASE WHEN t.status = com.adewunmi.task_management_api.enums.TaskStatus.COMPLETED " +
+           "THEN NULL ELSE t.completedAt END, t.status = :status, t.updatedAt = :now, t.version = t.version + 1 " +
+           "WHERE t.id IN :ids AND t.tenant.id = :tenantId AND t.deletedAt IS NULL")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids, @Param("status") TaskStatus status,
+            @Param("now") LocalDateTime now, @Param("tenantId") Long tenantId);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.status = com.adewunmi.task_management_api.enums.TaskStatus.COMPLETED, " +
+           "t.completedAt = :now, t.updatedAt = :now, t.version = t.version + 1 " +
+           "WHERE t.id IN :ids AND t.tenant.id = :tenantId AND t.deletedAt IS NULL")
+    int completeByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now,
+            @Param("tenantId") Long tenantId);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.assignedTo = :assignee, t.updatedAt = :now, t.version = t.version + 1 " +
+           "WHERE t.id IN :ids AND t.tenant.id = :tenantId AND t.deletedAt IS NULL")
+    int assignByIds(@Param("ids") Collection<Long> ids, @Param("assignee") User assignee,
+            @Param("now") LocalDateTime now, @Param("tenantId") Long tenantId);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.assignedTo = NULL, t.updatedAt = :now, t.version = t.version + 1 " +
+           "WHERE t.id IN :ids AND t.tenant.id = :tenantId AND t.deletedAt IS NULL")
+    int unassignByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now,
+            @Param("tenantId") Long tenantId);
+
     // Statistics queries for UserService
     @Query("SELECT COUNT(t) FROM Task t WHERE t.createdBy.id = :userId AND t.tenant.id = :tenantId AND t.deletedAt IS NULL")
     Long countByCreatedByIdAndTenantIdAndDeletedAtIsNull(@Param("userId") Long userId, @Param("tenantId") Long tenantId);
@@ -53,4 +168,32 @@ public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificat
     @Query("SELECT COUNT(t) FROM Task t WHERE t.assignedTo.id = :userId AND t.dueDate < :date AND t.status != :status AND t.tenant.id = :tenantId AND t.deletedAt IS NULL")
     Long countByAssignedToIdAndDueDateBeforeAndStatusNotAndTenantIdAndDeletedAtIsNull(@Param("userId") Long userId, @Param("date") LocalDateTime date, @Param("status") TaskStatus status, @Param("tenantId") Long tenantId);
 
+    // Archiving (TaskArchiveService): native SQL, as the archive tables have no entities.
+    // SKIP LOCKED lets archivers on several instances take disjoint batches.
+    @Query(value = "SELECT id AS \"id\", tenant_id AS \"tenantId\" FROM tasks WHERE deleted_at < :before " +
+                   "ORDER BY deleted_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<TaskIdTenant> findDeletedForArchive(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    @Query(value = "SELECT id AS \"id\", tenant_id AS \"tenantId\" FROM tasks " +
+                   "WHERE status = 'COMPLETED' AND deleted_at IS NULL AND completed_at < :before " +
+                   "ORDER BY completed_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<TaskIdTenant> findCompletedForArchive(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks_archive"))
+    @Query(value = "INSERT INTO tasks_archive (id, title, description, status, priority, due_date, tenant_id, " +
+                   "created_by, assigned_to, tags, completed_at, created_at, updated_at, deleted_at, version, archived_at) " +
+                   "SELECT id, title, description, status, priority, due_date, tenant_id, created_by, assigned_to, " +
+                   "tags, completed_at, created_at, updated_at, deleted_at, version, :now FROM tasks " +
+                   "WHERE id IN :ids AND tenant_id = :tenantId",
+           nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids, @Param("tenantId") Long tenantId,
+            @Param("now") LocalDateTime now);
+
+    // Comments, attachments and tags go with the task through ON DELETE CASCADE
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks"))
+    @Query(value = "DELETE FROM tasks WHERE id IN :ids AND tenant_id = :tenantId", nativeQuery = true)
+    int deleteArchived(@Param("ids") Collection<Long> ids, @Param("tenantId") Long tenantId);
+
 }
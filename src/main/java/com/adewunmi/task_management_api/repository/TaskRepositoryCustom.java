@@ -0,0 +1,47 @@
+package com.adewunmi.task_management_api.repository;
+
+import com.adewunmi.task_management_api.dto.response.TaskResponse;
+import com.adewunmi.task_management_api.entity.Task;
+import com.adewunmi.task_management_api.enums.TaskStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Custom Task queries that Spring Data cannot derive on its own.
+ * List reads project straight into {@link TaskResponse} so no Task or User entities are hydrated,
+ * and select only the columns of the requested fields; comment and attachment counts are left for the caller to fill in.
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Fetch a page of task responses matching the specification, with total count.
+     * Only the given response fields (plus id) are selected; null selects all of them.
+     */
+    Page<TaskResponse> findResponses(Specification<Task> spec, Pageable pageable, Set<String> fields);
+
+    /**
+     * Fetch one window of task responses matching the specification without issuing a COUNT query.
+     * Reads one extra row to decide whether a next window exists. Field selection as in findResponses.
+     */
+    Slice<TaskResponse> findResponseSlice(Specification<Task> spec, Pageable pageable, Set<String> fields);
+
+    /**
+     * Stream every task response matching the specification through a forward-only, read-only cursor.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    Stream<TaskResponse> streamResponses(Specification<Task> spec, Sort sort, int fetchSize);
+
+    /**
+     * Current status of up to limit tasks matching the specification, keyed by id in id order.
+     * The rows are locked (SELECT ... FOR UPDATE) so a bulk UPDATE later in the same transaction
+     * applies to exactly the statuses that were validated.
+     */
+    Map<Long, TaskStatus> findStatusesForUpdate(Specification<Task> spec, int limit);
+}
@@ -0,0 +1,227 @@
+package com.adewunmi.task_management_api.repository;
+
+import com.adewunmi.task_management_api.dto.response.TaskResponse;
+import com.adewunmi.task_management_api.entity.Task;
+import com.adewunmi.task_management_api.entity.User;
+import com.adewunmi.task_management_api.enums.TaskPriority;
+import com.adewunmi.task_management_api.enums.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Criteria based implementation of {@link TaskRepositoryCustom}
+ */
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    /**
+     * TaskResponse fields read straight from a tasks column of the same name
+     */
+    private static final List<String> COLUMN_FIELDS = List.of(
+            "title", "description", "status", "priority", "dueDate", "tags",
+            "completedAt", "createdAt", "updatedAt", "version");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<TaskResponse> findResponses(Specification<Task> spec, Pageable pageable, Set<String> fields) {
+        List<TaskResponse> content = fetchResponses(spec, pageable, pageable.getPageSize(), fields);
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public Slice<TaskResponse> findResponseSlice(Specification<Task> spec, Pageable pageable, Set<String> fields) {
+        List<TaskResponse> content = fetchResponses(spec, pageable, pageable.getPageSize() + 1, fields);
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public Stream<TaskResponse> streamResponses(Specification<Task> spec, Sort sort, int fetchSize) {
+        return createResponseQuery(spec, sort, null)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(tuple -> toResponse(tuple, null));
+    }
+
+    @Override
+    public Map<Long, TaskStatus> findStatusesForUpdate(Specification<Task> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        query.multiselect(root.get("id").alias("id"), root.get("status").alias("status"));
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        // Specifications may add their own ordering (relevance); locks are always taken in id order
+        query.orderBy(cb.asc(root.get("id")));
+
+        Map<Long, TaskStatus> statuses = new LinkedHashMap<>();
+        entityManager.createQuery(query)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setMaxResults(limit)
+                .getResultList()
+                .forEach(tuple -> statuses.put(tuple.get("id", Long.class), tuple.get("status", TaskStatus.class)));
+        return statuses;
+    }
+
+    private List<TaskResponse> fetchResponses(Specification<Task> spec, Pageable pageable, int limit, Set<String> fields) {
+        TypedQuery<Tuple> typedQuery = createResponseQuery(spec, pageable.getSort(), fields);
+        typedQuery.setFirstResult((int) pageable.getOffset());
+        typedQuery.setMaxResults(limit);
+
+        return typedQuery.getResultList().stream()
+                .map(tuple -> toResponse(tuple, fields))
+                .toList();
+    }
+
+    /**
+     * Tuple query selecting only the columns of the requested TaskResponse fields (all when fields is null).
+     * The user joins are only added when the creator or assignee is requested.
+     */
+    private TypedQuery<Tuple> createResponseQuery(Specification<Task> spec, Sort sort, Set<String> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get("id").alias("id"));
+        for (String column : COLUMN_FIELDS) {
+            if (wants(fields, column)) {
+                selections.add(root.get(column).alias(column));
+            }
+        }
+        if (wants(fields, "createdBy")) {
+            Join<Task, User> creator = root.join("createdBy");
+            selections.add(creator.get("id").alias("creatorId"));
+            selections.add(creator.get("firstName").alias("creatorFirstName"));
+            selections.add(creator.get("lastName").alias("creatorLastName"));
+            selections.add(creator.get("email").alias("creatorEmail"));
+        }
+        if (wants(fields, "assignedTo")) {
+            Join<Task, User> assignee = root.join("assignedTo", JoinType.LEFT);
+            selections.add(assignee.get("id").alias("assigneeId"));
+            selections.add(assignee.get("firstName").alias("assigneeFirstName"));
+            selections.add(assignee.get("lastName").alias("assigneeLastName"));
+            selections.add(assignee.get("email").alias("assigneeEmail"));
+        }
+        query.multiselect(selections);
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(cb.count(root));
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private TaskResponse toResponse(Tuple tuple, Set<String> fields) {
+        TaskResponse response = TaskResponse.builder()
+                .id(tuple.get("id", Long.class))
+                .build();
+
+        if (wants(fields, "title")) {
+            response.setTitle(tuple.get("title", String.class));
+        }
+        if (wants(fields, "description")) {
+            response.setDescription(tuple.get("description", String.class));
+        }
+        if (wants(fields, "status")) {
+            response.setStatus(tuple.get("status", TaskStatus.class));
+        }
+        if (wants(fields, "priority")) {
+            response.setPriority(tuple.get("priority", TaskPriority.class));
+        }
+        if (wants(fields, "dueDate")) {
+            response.setDueDate(tuple.get("dueDate", LocalDateTime.class));
+        }
+        if (wants(fields, "tags")) {
+            response.setTags(tuple.get("tags", String.class));
+        }
+        if (wants(fields, "completedAt")) {
+            response.setCompletedAt(tuple.get("completedAt", LocalDateTime.class));
+        }
+        if (wants(fields, "createdAt")) {
+            response.setCreatedAt(tuple.get("createdAt", LocalDateTime.class));
+        }
+        if (wants(fields, "updatedAt")) {
+            response.setUpdatedAt(tuple.get("updatedAt", LocalDateTime.class));
+        }
+        if (wants(fields, "version")) {
+            response.setVersion(tuple.get("version", Long.class));
+        }
+        if (wants(fields, "createdBy")) {
+            response.setCreatedBy(TaskResponse.UserSummary.builder()
+                    .id(tuple.get("creatorId", Long.class))
+                    .firstName(tuple.get("creatorFirstName", String.class))
+                    .lastName(tuple.get("creatorLastName", String.class))
+                    .email(tuple.get("creatorEmail", String.class))
+                    .build());
+        }
+        if (wants(fields, "assignedTo")) {
+            Long assigneeId = tuple.get("assigneeId", Long.class);
+            response.setAssignedTo(assigneeId == null ? null : TaskResponse.UserSummary.builder()
+                    .id(assigneeId)
+                    .firstName(tuple.get("assigneeFirstName", String.class))
+                    .lastName(tuple.get("assigneeLastName", String.class))
+                    .email(tuple.get("assigneeEmail", String.class))
+                    .build());
+        }
+        return response;
+    }
+
+    private static boolean wants(Set<String> fields, String field) {
+        return fields == null || fields.contains(field);
+    }
+}
@@ -0,0 +1,30 @@
+package com.adewunmi.task_management_api.repository;
+
+import com.adewunmi.task_management_api.entity.TaskTag;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskTagRepository extends JpaRepository<TaskTag, Long> {
+
+    @Modifying
+    @Query("DELETE FROM TaskTag tt WHERE tt.task.id = :taskId")
+    void deleteByTaskId(@Param("taskId") Long taskId);
+
+    @Query("SELECT tt.task.id AS taskId, tt.tag AS tag FROM TaskTag tt WHERE tt.tenant.id = :tenantId")
+    List<TaskIdTag> findTagsByTenantId(@Param("tenantId") Long tenantId);
+
+    @Query("SELECT tt.tag AS tag, COUNT(tt) AS count FROM TaskTag tt " +
+           "WHERE tt.tenant.id = :tenantId AND tt.task.deletedAt IS NULL " +
+           "AND tt.task.createdAt BETWEEN :start AND :end " +
+           "GROUP BY tt.tag ORDER BY COUNT(tt) DESC, tt.tag")
+    List<TagUsage> findMostUsedTags(@Param("tenantId") Long tenantId, @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end, Pageable pageable);
+}
@@ -0,0 +1,13 @@
+package com.adewunmi.task_management_api.repository;
+
+/**
+ * Projection for the number of tasks counted for one user, with the user's name (null if the user is gone)
+ */
+public interface TaskUserCount {
+
+    Long getUserId();
+
+    String getUserName();
+
+    Long getTaskCount();
+}
@@ -1,9 +1,16 @@
 package com.adewunmi.task_management_api.repository;
 
 import com.adewunmi.task_management_api.entity.Tenant;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,8 +18,22 @@ public interface TenantRepository extends JpaRepository<Tenant, Long> {
 
     Optional<Tenant> findBySlug(String slug);
 
+    @Query("SELECT t.id FROM Tenant t ORDER BY t.id")
+    List<Long> findAllIds();
+
     boolean existsBySlug(String slug);
 
     boolean existsByName(String name);
 
+    @Query("SELECT t.changeCount FROM Tenant t WHERE t.id = :tenantId")
+    Optional<Long> findChangeCountById(@Param("tenantId") Long tenantId);
+
+    // Not a versioned update: the counter must not conflict with edits of the tenant itself.
+    // Native with its own query space, as a JPQL update of Tenant would clear the whole cached tenants region
+    // on every task write; no cached state depends on change_count.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tenants.change_count"))
+    @Query(value = "UPDATE tenants SET change_count = change_count + 1 WHERE id = :tenantId", nativeQuery = true)
+    int incrementChangeCount(@Param("tenantId") Long tenantId);
+
 }
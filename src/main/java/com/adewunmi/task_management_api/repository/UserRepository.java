@@ -1,22 +1,32 @@
 package com.adewunmi.task_management_api.repository;
 
 import com.adewunmi.task_management_api.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmailAndTenantId(String email, Long tenantId);
 
-    @Query("SELECT u FROM User u WHERE u.email = :email AND u.tenant.id = :tenantId AND u.deletedAt IS NULL")
+    // Login reads password, active flag and roles from the database, never from the second-level cache
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.roles " +
+           "WHERE u.email = :email AND u.tenant.id = :tenantId AND u.deletedAt IS NULL")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
     Optional<User> findActiveByEmailAndTenantId(@Param("email") String email, @Param("tenantId") Long tenantId);
 
     boolean existsByEmailAndTenantId(String email, Long tenantId);
@@ -29,6 +39,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.id = :id AND u.tenant.id = :tenantId AND u.deletedAt IS NULL")
     Optional<User> findByIdAndTenantId(@Param("id") Long id, @Param("tenantId") Long tenantId);
 
+    /**
+     * The user and its roles straight from the database, skipping the second-level cache, for authentication
+     * when other instances' evictions are not broadcast
+     */
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.roles WHERE u.id = :id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
+    Optional<User> findByIdBypassingCache(@Param("id") Long id);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids AND u.tenant.id = :tenantId AND u.deletedAt IS NULL")
+    Set<Long> findIdsByIdInAndTenantId(@Param("ids") Collection<Long> ids, @Param("tenantId") Long tenantId);
+
     @Query("SELECT u FROM User u WHERE u.tenant.id = :tenantId AND u.deletedAt IS NULL")
     Page<User> findByTenantIdAndDeletedAtIsNull(@Param("tenantId") Long tenantId, Pageable pageable);
 
@@ -39,4 +60,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
            "u.deletedAt IS NULL")
     Page<User> searchByNameOrEmail(@Param("query") String query, @Param("tenantId") Long tenantId, Pageable pageable);
 
+    // Not a versioned update: concurrent logins of one user must not fail each other with a version conflict.
+    // Native with its own query space, as a JPQL update of User would clear the whole cached users region on
+    // every login; cached copies show the previous last_login until they expire.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users.last_login"))
+    @Query(value = "UPDATE users SET last_login = :lastLogin WHERE id = :id", nativeQuery = true)
+    int updateLastLogin(@Param("id") Long id, @Param("lastLogin") LocalDateTime lastLogin);
+
 }
@@ -5,6 +5,7 @@ import com.adewunmi.task_management_api.exception.ResourceNotFoundException;
 import com.adewunmi.task_management_api.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -17,6 +18,9 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
 
+    @Value("${app.entity-cache.redis-invalidation.enabled:false}")
+    private boolean cacheInvalidationBroadcast;
+
     @Override
     @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -35,7 +39,9 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     @Transactional
     public UserDetails loadUserById(Long id) {
-        User user = userRepository.findById(id)
+        // Without the eviction broadcast a cached copy may miss a deactivation or password change made on
+        // another instance, so the per-request check reads the user from the database
+        User user = (cacheInvalidationBroadcast ? userRepository.findById(id) : userRepository.findByIdBypassingCache(id))
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
 
         return CustomUserDetails.create(user);
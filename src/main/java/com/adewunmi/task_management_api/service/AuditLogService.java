@@ -3,6 +3,7 @@ package com.adewunmi.task_management_api.service;
 import com.adewunmi.task_management_api.dto.response.AuditLogResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * Service interface for Audit Logging
@@ -34,4 +35,24 @@ public interface AuditLogService {
      * Get audit logs by action type
      */
     Page<AuditLogResponse> getAuditLogsByAction(String action, Pageable pageable);
+    
+    /**
+     * Get audit logs for current tenant as a slice, without a total count
+     */
+    Slice<AuditLogResponse> getAuditLogsSlice(Pageable pageable);
+    
+    /**
+     * Get audit logs for a specific entity as a slice, without a total count
+     */
+    Slice<AuditLogResponse> getAuditLogsByEntitySlice(String entityType, Long entityId, Pageable pageable);
+    
+    /**
+     * Get audit logs for a specific user as a slice, without a total count
+     */
+    Slice<AuditLogResponse> getAuditLogsByUserSlice(Long userId, Pageable pageable);
+    
+    /**
+     * Get audit logs by action type as a slice, without a total count
+     */
+    Slice<AuditLogResponse> getAuditLogsByActionSlice(String action, Pageable pageable);
 }
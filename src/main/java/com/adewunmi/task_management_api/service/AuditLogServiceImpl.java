@@ -14,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -129,6 +130,53 @@ public class AuditLogServiceImpl implements AuditLogService {
         return logs.map(this::mapToResponse);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<AuditLogResponse> getAuditLogsSlice(Pageable pageable) {
+        log.info("Fetching audit logs slice");
+        
+        Long tenantId = TenantContext.getCurrentTenant();
+        Slice<AuditLog> logs = auditLogRepository.findSliceByTenantIdOrderByTimestampDesc(tenantId, pageable);
+        
+        return logs.map(this::mapToResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<AuditLogResponse> getAuditLogsByEntitySlice(String entityType, Long entityId, Pageable pageable) {
+        log.info("Fetching audit logs slice for entity: {} - {}", entityType, entityId);
+        
+        Long tenantId = TenantContext.getCurrentTenant();
+        Slice<AuditLog> logs = auditLogRepository.findSliceByTenantIdAndEntityTypeAndEntityIdOrderByTimestampDesc(
+                tenantId, entityType, entityId, pageable);
+        
+        return logs.map(this::mapToResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<AuditLogResponse> getAuditLogsByUserSlice(Long userId, Pageable pageable) {
+        log.info("Fetching audit logs slice for user: {}", userId);
+        
+        Long tenantId = TenantContext.getCurrentTenant();
+        Slice<AuditLog> logs = auditLogRepository.findSliceByTenantIdAndUserIdOrderByTimestampDesc(
+                tenantId, userId, pageable);
+        
+        return logs.map(this::mapToResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<AuditLogResponse> getAuditLogsByActionSlice(String action, Pageable pageable) {
+        log.info("Fetching audit logs slice for action: {}", action);
+        
+        Long tenantId = TenantContext.getCurrentTenant();
+        Slice<AuditLog> logs = auditLogRepository.findSliceByTenantIdAndActionOrderByTimestampDesc(
+                tenantId, action, pageable);
+        
+        return logs.map(this::mapToResponse);
+    }
+
     /**
      * Get current authenticated user details
      */
@@ -142,9 +142,9 @@ public class AuthServiceImpl implements AuthService {
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        // Update last login
-        user.setLastLogin(LocalDateTime.now());
-        userRepository.save(user);
+        // Update last login in place, without a versioned save of the whole user
+        LocalDateTime lastLogin = LocalDateTime.now();
+        userRepository.updateLastLogin(user.getId(), lastLogin);
 
         // Generate tokens
         String accessToken = tokenProvider.generateAccessToken(userDetails);
@@ -152,6 +152,7 @@ public class AuthServiceImpl implements AuthService {
 
         // Build response
         UserResponse userResponse = buildUserResponse(user);
+        userResponse.setLastLogin(lastLogin);
 
         return AuthResponse.builder()
                 .accessToken(accessToken)
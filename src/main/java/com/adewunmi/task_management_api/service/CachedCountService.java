@@ -0,0 +1,20 @@
+package com.adewunmi.task_management_api.service;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Service interface for cached row counts
+ * Serves approximate list totals without running a COUNT query on every request
+ */
+public interface CachedCountService {
+
+    /**
+     * Return the cached count for the key, running the counter only when the entry is missing or expired
+     */
+    long getCount(String key, LongSupplier counter);
+
+    /**
+     * Drop every cached count whose key starts with the given prefix
+     */
+    void evict(String keyPrefix);
+}
@@ -0,0 +1,59 @@
+package com.adewunmi.task_management_api.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Service implementation for cached row counts
+ * Keeps counts in memory for a short TTL; totals may lag behind writes by up to that TTL
+ */
+@Service
+@Slf4j
+public class CachedCountServiceImpl implements CachedCountService {
+
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    public CachedCountServiceImpl(
+            @Value("${app.pagination.count-cache-ttl:60s}") Duration ttl,
+            @Value("${app.pagination.count-cache-max-entries:10000}") int maxEntries) {
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public long getCount(String key, LongSupplier counter) {
+        long now = System.currentTimeMillis();
+        CachedCount cached = counts.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.value();
+        }
+
+        long value = counter.getAsLong();
+        if (counts.size() >= maxEntries) {
+            // Crude bound: expired entries first, everything if that is not enough
+            counts.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (counts.size() >= maxEntries) {
+                log.debug("Count cache full ({} entries), clearing", counts.size());
+                counts.clear();
+            }
+        }
+        counts.put(key, new CachedCount(value, now + ttlMillis));
+        return value;
+    }
+
+    @Override
+    public void evict(String keyPrefix) {
+        counts.keySet().removeIf(key -> key.startsWith(keyPrefix));
+    }
+
+    private record CachedCount(long value, long expiresAt) {
+    }
+}
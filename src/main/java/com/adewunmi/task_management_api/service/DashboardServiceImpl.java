@@ -2,17 +2,19 @@ package com.adewunmi.task_management_api.service;
 
 import com.adewunmi.task_management_api.dto.response.DashboardStatsResponse;
 import com.adewunmi.task_management_api.dto.response.TaskAnalyticsResponse;
-import com.adewunmi.task_management_api.entity.Task;
 import com.adewunmi.task_management_api.enums.TaskPriority;
+import com.adewunmi.task_management_api.enums.TaskRollupMetric;
 import com.adewunmi.task_management_api.enums.TaskStatus;
 import com.adewunmi.task_management_api.exception.BadRequestException;
 import com.adewunmi.task_management_api.multitenant.TenantContext;
+import com.adewunmi.task_management_api.repository.TaskDayCount;
+import com.adewunmi.task_management_api.repository.TaskDueCounts;
 import com.adewunmi.task_management_api.repository.TaskRepository;
+import com.adewunmi.task_management_api.repository.TaskUserCount;
 import com.adewunmi.task_management_api.repository.UserRepository;
 import com.adewunmi.task_management_api.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -34,95 +36,46 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class DashboardServiceImpl implements DashboardService {
 
+    // Users and tags listed in each analytics ranking
+    private static final int TOP_LIMIT = 10;
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final TaskCounterService taskCounterService;
 
     @Override
     public DashboardStatsResponse getDashboardStats() {
         log.info("Fetching dashboard statistics");
         
         Long tenantId = TenantContext.getCurrentTenant();
-        
-        // Get all tasks for tenant
-        Specification<Task> tenantSpec = (root, query, cb) -> 
-            cb.and(
-                cb.equal(root.get("tenant").get("id"), tenantId),
-                cb.isNull(root.get("deletedAt"))
-            );
-        
-        List<Task> allTasks = taskRepository.findAll(tenantSpec);
-        
-        // Calculate statistics
-        Long totalTasks = (long) allTasks.size();
-        
-        Map<String, Long> tasksByStatus = allTasks.stream()
-                .collect(Collectors.groupingBy(
-                    task -> task.getStatus().name(),
-                    Collectors.counting()
-                ));
-        
-        Map<String, Long> tasksByPriority = allTasks.stream()
-                .collect(Collectors.groupingBy(
-                    task -> task.getPriority().name(),
-                    Collectors.counting()
-                ));
-        
-        LocalDateTime now = LocalDateTime.now();
-        Long overdueTasks = allTasks.stream()
-                .filter(task -> task.getDueDate() != null && 
-                               task.getDueDate().isBefore(now) && 
-                               task.getStatus() != TaskStatus.COMPLETED)
-                .count();
-        
-        LocalDateTime todayEnd = LocalDateTime.of(LocalDate.now(), LocalTime.MAX);
-        Long tasksDueToday = allTasks.stream()
-                .filter(task -> task.getDueDate() != null && 
-                               task.getDueDate().isBefore(todayEnd) && 
-                               task.getDueDate().isAfter(now))
-                .count();
-        
-        LocalDateTime weekEnd = now.plusDays(7);
-        Long tasksDueThisWeek = allTasks.stream()
-                .filter(task -> task.getDueDate() != null && 
-                               task.getDueDate().isAfter(now) && 
-                               task.getDueDate().isBefore(weekEnd))
-                .count();
-        
-        // Get current user statistics
         CustomUserDetails currentUser = getCurrentUserDetails();
-        Long myAssignedTasks = allTasks.stream()
-                .filter(task -> task.getAssignedTo() != null && 
-                               task.getAssignedTo().getId().equals(currentUser.getId()))
-                .count();
         
-        Long myCompletedTasks = allTasks.stream()
-                .filter(task -> task.getAssignedTo() != null && 
-                               task.getAssignedTo().getId().equals(currentUser.getId()) &&
-                               task.getStatus() == TaskStatus.COMPLETED)
-                .count();
+        // Status and priority counts are read from the maintained counters; only due dates need the tasks table
+        TaskCounts counts = taskCounterService.getCounts(tenantId, null);
+        TaskCounts myCounts = taskCounterService.getCounts(tenantId, currentUser.getId());
+        LocalDateTime now = LocalDateTime.now();
+        TaskDueCounts dueCounts = taskRepository.countDueDates(
+                tenantId, now, LocalDateTime.of(LocalDate.now(), LocalTime.MAX), now.plusDays(7));
         
         // User statistics
         Long totalUsers = userRepository.countActiveUsersByTenantId(tenantId);
         Long activeUsers = totalUsers; // All users returned by countActiveUsersByTenantId are active
         
         // Calculate completion rate
-        Long completedTasks = allTasks.stream()
-                .filter(task -> task.getStatus() == TaskStatus.COMPLETED)
-                .count();
-        Double completionRate = totalTasks > 0 ? (completedTasks * 100.0 / totalTasks) : 0.0;
+        Double completionRate = completionRate(counts);
         
         // Average tasks per user
-        Double averageTasksPerUser = totalUsers > 0 ? (totalTasks * 1.0 / totalUsers) : 0.0;
+        Double averageTasksPerUser = totalUsers > 0 ? (counts.total() * 1.0 / totalUsers) : 0.0;
         
         return DashboardStatsResponse.builder()
-                .totalTasks(totalTasks)
-                .tasksByStatus(tasksByStatus)
-                .tasksByPriority(tasksByPriority)
-                .overdueTasks(overdueTasks)
-                .tasksDueToday(tasksDueToday)
-                .tasksDueThisWeek(tasksDueThisWeek)
-                .myAssignedTasks(myAssignedTasks)
-                .myCompletedTasks(myCompletedTasks)
+                .totalTasks(counts.total())
+                .tasksByStatus(TaskCounts.byName(counts.byStatus()))
+                .tasksByPriority(TaskCounts.byName(counts.byPriority()))
+                .overdueTasks(dueCounts.getOverdue())
+                .tasksDueToday(dueCounts.getDueToday())
+                .tasksDueThisWeek(dueCounts.getDueThisWeek())
+                .myAssignedTasks(myCounts.total())
+                .myCompletedTasks(myCounts.count(TaskStatus.COMPLETED))
                 .totalUsers(totalUsers)
                 .activeUsers(activeUsers)
                 .completionRate(Math.round(completionRate * 100.0) / 100.0)
@@ -136,117 +89,24 @@ public class DashboardServiceImpl implements DashboardService {
         
         Long tenantId = TenantContext.getCurrentTenant();
         
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
-        
-        // Get tasks within date range
-        Specification<Task> dateRangeSpec = (root, query, cb) -> 
-            cb.and(
-                cb.equal(root.get("tenant").get("id"), tenantId),
-                cb.isNull(root.get("deletedAt")),
-                cb.between(root.get("createdAt"), startDateTime, endDateTime)
-            );
-        
-        List<Task> tasks = taskRepository.findAll(dateRangeSpec);
-        
-        // Tasks created over time
-        Map<LocalDate, Long> tasksCreatedMap = tasks.stream()
-                .collect(Collectors.groupingBy(
-                    task -> task.getCreatedAt().toLocalDate(),
-                    Collectors.counting()
-                ));
-        
-        List<TaskAnalyticsResponse.TimeSeriesData> tasksCreatedOverTime = tasksCreatedMap.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .map(entry -> TaskAnalyticsResponse.TimeSeriesData.builder()
-                        .date(entry.getKey().toString())
-                        .count(entry.getValue())
-                        .build())
-                .collect(Collectors.toList());
-        
-        // Tasks completed over time
-        Map<LocalDate, Long> tasksCompletedMap = tasks.stream()
-                .filter(task -> task.getCompletedAt() != null)
-                .collect(Collectors.groupingBy(
-                    task -> task.getCompletedAt().toLocalDate(),
-                    Collectors.counting()
-                ));
-        
-        List<TaskAnalyticsResponse.TimeSeriesData> tasksCompletedOverTime = tasksCompletedMap.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .map(entry -> TaskAnalyticsResponse.TimeSeriesData.builder()
-                        .date(entry.getKey().toString())
-                        .count(entry.getValue())
-                        .build())
-                .collect(Collectors.toList());
-        
-        // Top task creators
-        Map<Long, Long> creatorCountMap = tasks.stream()
-                .collect(Collectors.groupingBy(
-                    task -> task.getCreatedBy().getId(),
-                    Collectors.counting()
-                ));
+        // Every series is merged from daily rollup rows, so the cost follows the days in the range, not the tasks
+        List<TaskAnalyticsResponse.TimeSeriesData> tasksCreatedOverTime = toTimeSeries(
+                taskCounterService.getDailyCounts(tenantId, TaskRollupMetric.CREATED, startDate, endDate));
+        List<TaskAnalyticsResponse.TimeSeriesData> tasksCompletedOverTime = toTimeSeries(
+                taskCounterService.getDailyCounts(tenantId, TaskRollupMetric.COMPLETED, startDate, endDate));
         
-        List<TaskAnalyticsResponse.UserTaskCount> topTaskCreators = creatorCountMap.entrySet().stream()
-                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
-                .limit(10)
-                .map(entry -> {
-                    Task task = tasks.stream()
-                            .filter(t -> t.getCreatedBy().getId().equals(entry.getKey()))
-                            .findFirst()
-                            .orElse(null);
-                    return TaskAnalyticsResponse.UserTaskCount.builder()
-                            .userId(entry.getKey())
-                            .userName(task != null ? task.getCreatedBy().getFullName() : "Unknown")
-                            .taskCount(entry.getValue())
-                            .build();
-                })
-                .collect(Collectors.toList());
-        
-        // Top task assignees
-        Map<Long, Long> assigneeCountMap = tasks.stream()
-                .filter(task -> task.getAssignedTo() != null)
-                .collect(Collectors.groupingBy(
-                    task -> task.getAssignedTo().getId(),
-                    Collectors.counting()
-                ));
-        
-        List<TaskAnalyticsResponse.UserTaskCount> topTaskAssignees = assigneeCountMap.entrySet().stream()
-                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
-                .limit(10)
-                .map(entry -> {
-                    Task task = tasks.stream()
-                            .filter(t -> t.getAssignedTo() != null && t.getAssignedTo().getId().equals(entry.getKey()))
-                            .findFirst()
-                            .orElse(null);
-                    return TaskAnalyticsResponse.UserTaskCount.builder()
-                            .userId(entry.getKey())
-                            .userName(task != null ? task.getAssignedTo().getFullName() : "Unknown")
-                            .taskCount(entry.getValue())
-                            .build();
-                })
-                .collect(Collectors.toList());
+        // Top task creators and assignees of the tasks created in the range, ranked and named by one query each
+        List<TaskAnalyticsResponse.UserTaskCount> topTaskCreators = toUserTaskCounts(taskCounterService.getTopUsers(
+                tenantId, TaskRollupMetric.CREATED, startDate, endDate, TOP_LIMIT));
+        List<TaskAnalyticsResponse.UserTaskCount> topTaskAssignees = toUserTaskCounts(taskCounterService.getTopUsers(
+                tenantId, TaskRollupMetric.ASSIGNED, startDate, endDate, TOP_LIMIT));
         
         // Most used tags
-        Map<String, Long> tagCountMap = new HashMap<>();
-        tasks.stream()
-                .filter(task -> task.getTags() != null && !task.getTags().trim().isEmpty())
-                .forEach(task -> {
-                    String[] tags = task.getTags().split(",");
-                    for (String tag : tags) {
-                        String trimmedTag = tag.trim();
-                        if (!trimmedTag.isEmpty()) {
-                            tagCountMap.merge(trimmedTag, 1L, Long::sum);
-                        }
-                    }
-                });
-        
-        List<TaskAnalyticsResponse.TagCount> mostUsedTags = tagCountMap.entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                .limit(10)
-                .map(entry -> TaskAnalyticsResponse.TagCount.builder()
-                        .tag(entry.getKey())
-                        .count(entry.getValue())
+        List<TaskAnalyticsResponse.TagCount> mostUsedTags = taskCounterService
+                .getTopTags(tenantId, startDate, endDate, TOP_LIMIT).stream()
+                .map(usage -> TaskAnalyticsResponse.TagCount.builder()
+                        .tag(usage.getTag())
+                        .count(usage.getCount())
                         .build())
                 .collect(Collectors.toList());
         
@@ -266,66 +126,23 @@ public class DashboardServiceImpl implements DashboardService {
         Long tenantId = TenantContext.getCurrentTenant();
         CustomUserDetails currentUser = getCurrentUserDetails();
         
-        // Get all tasks assigned to current user
-        Specification<Task> userTaskSpec = (root, query, cb) -> 
-            cb.and(
-                cb.equal(root.get("tenant").get("id"), tenantId),
-                cb.isNull(root.get("deletedAt")),
-                cb.equal(root.get("assignedTo").get("id"), currentUser.getId())
-            );
-        
-        List<Task> myTasks = taskRepository.findAll(userTaskSpec);
-        
-        Long totalTasks = (long) myTasks.size();
-        
-        Map<String, Long> tasksByStatus = myTasks.stream()
-                .collect(Collectors.groupingBy(
-                    task -> task.getStatus().name(),
-                    Collectors.counting()
-                ));
-        
-        Map<String, Long> tasksByPriority = myTasks.stream()
-                .collect(Collectors.groupingBy(
-                    task -> task.getPriority().name(),
-                    Collectors.counting()
-                ));
-        
+        // Same counters as the tenant dashboard, restricted to tasks assigned to the current user
+        TaskCounts counts = taskCounterService.getCounts(tenantId, currentUser.getId());
         LocalDateTime now = LocalDateTime.now();
-        Long overdueTasks = myTasks.stream()
-                .filter(task -> task.getDueDate() != null && 
-                               task.getDueDate().isBefore(now) && 
-                               task.getStatus() != TaskStatus.COMPLETED)
-                .count();
-        
-        LocalDateTime todayEnd = LocalDateTime.of(LocalDate.now(), LocalTime.MAX);
-        Long tasksDueToday = myTasks.stream()
-                .filter(task -> task.getDueDate() != null && 
-                               task.getDueDate().isBefore(todayEnd) && 
-                               task.getDueDate().isAfter(now))
-                .count();
-        
-        LocalDateTime weekEnd = now.plusDays(7);
-        Long tasksDueThisWeek = myTasks.stream()
-                .filter(task -> task.getDueDate() != null && 
-                               task.getDueDate().isAfter(now) && 
-                               task.getDueDate().isBefore(weekEnd))
-                .count();
+        TaskDueCounts dueCounts = taskRepository.countDueDatesAssignedTo(
+                tenantId, currentUser.getId(), now, LocalDateTime.of(LocalDate.now(), LocalTime.MAX), now.plusDays(7));
         
-        Long myCompletedTasks = myTasks.stream()
-                .filter(task -> task.getStatus() == TaskStatus.COMPLETED)
-                .count();
-        
-        Double completionRate = totalTasks > 0 ? (myCompletedTasks * 100.0 / totalTasks) : 0.0;
+        Double completionRate = completionRate(counts);
         
         return DashboardStatsResponse.builder()
-                .totalTasks(totalTasks)
-                .tasksByStatus(tasksByStatus)
-                .tasksByPriority(tasksByPriority)
-                .overdueTasks(overdueTasks)
-                .tasksDueToday(tasksDueToday)
-                .tasksDueThisWeek(tasksDueThisWeek)
-                .myAssignedTasks(totalTasks)
-                .myCompletedTasks(myCompletedTasks)
+                .totalTasks(counts.total())
+                .tasksByStatus(TaskCounts.byName(counts.byStatus()))
+                .tasksByPriority(TaskCounts.byName(counts.byPriority()))
+                .overdueTasks(dueCounts.getOverdue())
+                .tasksDueToday(dueCounts.getDueToday())
+                .tasksDueThisWeek(dueCounts.getDueThisWeek())
+                .myAssignedTasks(counts.total())
+                .myCompletedTasks(counts.count(TaskStatus.COMPLETED))
                 .completionRate(Math.round(completionRate * 100.0) / 100.0)
                 .build();
     }
@@ -346,4 +163,27 @@ public class DashboardServiceImpl implements DashboardService {
         
         return (CustomUserDetails) principal;
     }
+
+    private static List<TaskAnalyticsResponse.TimeSeriesData> toTimeSeries(List<TaskDayCount> days) {
+        return days.stream()
+                .map(day -> TaskAnalyticsResponse.TimeSeriesData.builder()
+                        .date(day.getRollupDate().toString())
+                        .count(day.getTaskCount())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static List<TaskAnalyticsResponse.UserTaskCount> toUserTaskCounts(List<TaskUserCount> counts) {
+        return counts.stream()
+                .map(count -> TaskAnalyticsResponse.UserTaskCount.builder()
+                        .userId(count.getUserId())
+                        .userName(count.getUserName() != null ? count.getUserName() : "Unknown")
+                        .taskCount(count.getTaskCount())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static double completionRate(TaskCounts counts) {
+        return counts.total() > 0 ? (counts.count(TaskStatus.COMPLETED) * 100.0 / counts.total()) : 0.0;
+    }
 }
@@ -0,0 +1,24 @@
+package com.adewunmi.task_management_api.service;
+
+/**
+ * Service interface for explicit eviction from the Hibernate second-level cache
+ * Hibernate keeps its local regions current for changes made through the session; this covers other instances,
+ * which learn about the change through Redis when invalidation broadcasting is enabled
+ */
+public interface EntityCacheService {
+
+    /**
+     * Redis channel on which instances announce evicted entities to each other
+     */
+    String INVALIDATION_CHANNEL = "entity-cache:invalidations";
+
+    /**
+     * Drop the cached user and its roles, here and on other instances, once the surrounding transaction commits
+     */
+    void evictUser(Long userId);
+
+    /**
+     * Apply an eviction announced by another instance on the invalidation channel
+     */
+    void handleInvalidation(String message);
+}
@@ -0,0 +1,91 @@
+package com.adewunmi.task_management_api.service;
+
+import com.adewunmi.task_management_api.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Service implementation for second-level cache eviction.
+ * Until an eviction reaches another instance (or without Redis at all), that instance may serve the old user
+ * for up to the TTL of the users region in ehcache.xml, which is kept short for that reason. Authentication
+ * only reads cached users while the broadcast is on, see CustomUserDetailsService.
+ */
+@Service
+@Slf4j
+public class EntityCacheServiceImpl implements EntityCacheService {
+
+    private static final String USER_PREFIX = "user:";
+    private static final String USER_ROLES = User.class.getName() + ".roles";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final StringRedisTemplate redisTemplate;
+
+    public EntityCacheServiceImpl(
+            EntityManagerFactory entityManagerFactory,
+            StringRedisTemplate redisTemplate,
+            @Value("${app.entity-cache.redis-invalidation.enabled:false}") boolean redisInvalidation) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.redisTemplate = redisInvalidation ? redisTemplate : null;
+    }
+
+    @Override
+    public void evictUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        Runnable apply = () -> {
+            evictUserLocally(userId);
+            publish(USER_PREFIX + userId);
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    @Override
+    public void handleInvalidation(String message) {
+        // Format: user:<userId>
+        try {
+            if (message.startsWith(USER_PREFIX)) {
+                evictUserLocally(Long.valueOf(message.substring(USER_PREFIX.length())));
+                return;
+            }
+        } catch (RuntimeException e) {
+            // Fall through to the warning below
+        }
+        log.warn("Ignoring malformed entity cache invalidation: {}", message);
+    }
+
+    private void evictUserLocally(Long userId) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(User.class, userId);
+        cache.evictCollectionData(USER_ROLES, userId);
+    }
+
+    private void publish(String message) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish entity cache invalidation {}; other instances may serve it until it expires",
+                    message, e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.adewunmi.task_management_api.service;
+
+/**
+ * Service interface for archiving tasks
+ * Moves soft-deleted and long-completed tasks, with their comments and attachments, into the *_archive tables
+ */
+public interface TaskArchiveService {
+
+    /**
+     * Archive every eligible task in bounded batches (one transaction each); returns the number of tasks moved
+     */
+    int archiveTasks();
+}
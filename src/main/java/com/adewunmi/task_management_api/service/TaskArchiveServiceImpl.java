@@ -0,0 +1,142 @@
+package com.adewunmi.task_management_api.service;
+
+import com.adewunmi.task_management_api.repository.TaskAttachmentRepository;
+import com.adewunmi.task_management_api.repository.TaskBucketRow;
+import com.adewunmi.task_management_api.repository.TaskCommentRepository;
+import com.adewunmi.task_management_api.repository.TaskIdTenant;
+import com.adewunmi.task_management_api.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation for archiving tasks.
+ * Each batch locks up to batch-size eligible rows (soft-deleted first, then long-completed), copies the tasks
+ * and their comments and attachments into the archive tables and deletes them from the live tables, all in one
+ * short transaction. A run stops after max-batches-per-run, so a large backlog is worked off over several runs.
+ */
+@Service
+@Slf4j
+public class TaskArchiveServiceImpl implements TaskArchiveService {
+
+    private final TaskRepository taskRepository;
+    private final TaskCommentRepository commentRepository;
+    private final TaskAttachmentRepository attachmentRepository;
+    private final CachedCountService cachedCountService;
+    private final TenantChangeCounterService tenantChangeCounterService;
+    private final TaskCounterService taskCounterService;
+    private final TaskCacheService taskCacheService;
+    private final TaskFilterIndexService taskFilterIndexService;
+    private final TransactionTemplate batchTransaction;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration deletedRetention;
+    private final Duration completedRetention;
+
+    public TaskArchiveServiceImpl(
+            TaskRepository taskRepository,
+            TaskCommentRepository commentRepository,
+            TaskAttachmentRepository attachmentRepository,
+            CachedCountService cachedCountService,
+            TenantChangeCounterService tenantChangeCounterService,
+            TaskCounterService taskCounterService,
+            TaskCacheService taskCacheService,
+            TaskFilterIndexService taskFilterIndexService,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.archive.enabled:false}") boolean enabled,
+            @Value("${app.archive.batch-size:500}") int batchSize,
+            @Value("${app.archive.max-batches-per-run:200}") int maxBatchesPerRun,
+            @Value("${app.archive.deleted-retention:7d}") Duration deletedRetention,
+            @Value("${app.archive.completed-retention:365d}") Duration completedRetention) {
+        this.taskRepository = taskRepository;
+        this.commentRepository = commentRepository;
+        this.attachmentRepository = attachmentRepository;
+        this.cachedCountService = cachedCountService;
+        this.tenantChangeCounterService = tenantChangeCounterService;
+        this.taskCounterService = taskCounterService;
+        this.taskCacheService = taskCacheService;
+        this.taskFilterIndexService = taskFilterIndexService;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.deletedRetention = deletedRetention;
+        this.completedRetention = completedRetention;
+    }
+
+    /**
+     * Intervals are ISO-8601 durations (e.g. PT1H), as @Scheduled does not take the 1h shorthand
+     */
+    @Scheduled(fixedDelayString = "${app.archive.interval:PT1H}", initialDelayString = "${app.archive.initial-delay:PT10M}")
+    public void scheduledArchive() {
+        if (enabled) {
+            archiveTasks();
+        }
+    }
+
+    @Override
+    public int archiveTasks() {
+        long start = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime deletedBefore = now.minus(deletedRetention);
+        LocalDateTime completedBefore = now.minus(completedRetention);
+
+        int archived = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer moved = batchTransaction.execute(status -> archiveBatch(now, deletedBefore, completedBefore));
+            archived += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+
+        if (archived > 0) {
+            log.info("Archived {} tasks in {} ms", archived, System.currentTimeMillis() - start);
+        }
+        return archived;
+    }
+
+    private int archiveBatch(LocalDateTime now, LocalDateTime deletedBefore, LocalDateTime completedBefore) {
+        List<TaskIdTenant> tasks = new ArrayList<>(taskRepository.findDeletedForArchive(deletedBefore, batchSize));
+        if (tasks.size() < batchSize) {
+            tasks.addAll(taskRepository.findCompletedForArchive(completedBefore, batchSize - tasks.size()));
+        }
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+
+        // Moved one tenant at a time, so each statement touches only that tenant's partition
+        Map<Long, List<Long>> idsByTenant = tasks.stream().collect(Collectors.groupingBy(
+                TaskIdTenant::getTenantId, Collectors.mapping(TaskIdTenant::getId, Collectors.toList())));
+        idsByTenant.forEach((tenantId, taskIds) -> {
+            // Soft-deleted tasks are no longer counted; archived completed ones still are until they are removed
+            for (TaskBucketRow row : taskRepository.findBucketRowsByIds(taskIds, tenantId)) {
+                taskCounterService.recordChange(tenantId, TaskCounterService.Bucket.of(row), null);
+            }
+            commentRepository.copyToArchiveByTaskIds(taskIds, tenantId, now);
+            attachmentRepository.copyToArchiveByTaskIds(taskIds, tenantId, now);
+            taskRepository.copyToArchive(taskIds, tenantId, now);
+            taskRepository.deleteArchived(taskIds, tenantId);
+        });
+
+        // Archived completed tasks disappear from reads, so every cache that may still show them is told
+        idsByTenant.forEach((tenantId, taskIds) -> {
+            cachedCountService.evict(TaskServiceImpl.countKeyPrefix(tenantId));
+            tenantChangeCounterService.recordChange(tenantId);
+            taskCacheService.evict(tenantId, taskIds);
+            taskIds.forEach(taskId -> taskFilterIndexService.onTaskDeleted(tenantId, taskId));
+        });
+        return tasks.size();
+    }
+}
@@ -4,6 +4,7 @@ import com.adewunmi.task_management_api.dto.response.AttachmentResponse;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -24,6 +25,11 @@ public interface TaskAttachmentService {
      */
     Page<AttachmentResponse> getTaskAttachments(Long taskId, Pageable pageable);
     
+    /**
+     * Get attachments for a task as a slice, without a total count
+     */
+    Slice<AttachmentResponse> getTaskAttachmentsSlice(Long taskId, Pageable pageable);
+    
     /**
      * Get all attachments for a task (non-paginated)
      */
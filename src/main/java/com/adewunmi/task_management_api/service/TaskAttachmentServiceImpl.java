@@ -17,6 +17,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -40,6 +41,8 @@ public class TaskAttachmentServiceImpl implements TaskAttachmentService {
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final FileStorageService fileStorageService;
+    private final TenantChangeCounterService tenantChangeCounterService;
+    private final TaskCacheService taskCacheService;
 
     @Override
     public AttachmentResponse uploadAttachment(Long taskId, MultipartFile file) {
@@ -73,6 +76,9 @@ public class TaskAttachmentServiceImpl implements TaskAttachmentService {
                 .build();
         
         TaskAttachment savedAttachment = attachmentRepository.save(attachment);
+        tenantChangeCounterService.recordChange(tenantId);
+        // The cached task response carries the attachment count
+        taskCacheService.evict(tenantId, List.of(taskId));
         log.info("Attachment uploaded successfully with ID: {}", savedAttachment.getId());
         
         return mapToResponse(savedAttachment);
@@ -89,7 +95,22 @@ public class TaskAttachmentServiceImpl implements TaskAttachmentService {
         taskRepository.findByIdAndTenantId(taskId, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
         
-        Page<TaskAttachment> attachments = attachmentRepository.findByTaskIdAndDeletedAtIsNull(taskId, pageable);
+        Page<TaskAttachment> attachments = attachmentRepository.findByTaskIdAndDeletedAtIsNull(taskId, tenantId, pageable);
+        return attachments.map(this::mapToResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<AttachmentResponse> getTaskAttachmentsSlice(Long taskId, Pageable pageable) {
+        log.info("Fetching attachments slice for task ID: {}", taskId);
+        
+        Long tenantId = TenantContext.getCurrentTenant();
+        
+        // Verify task exists and belongs to tenant
+        taskRepository.findByIdAndTenantId(taskId, tenantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
+        
+        Slice<TaskAttachment> attachments = attachmentRepository.findSliceByTaskIdAndDeletedAtIsNull(taskId, tenantId, pageable);
         return attachments.map(this::mapToResponse);
     }
 
@@ -104,7 +125,7 @@ public class TaskAttachmentServiceImpl implements TaskAttachmentService {
         taskRepository.findByIdAndTenantId(taskId, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
         
-        List<TaskAttachment> attachments = attachmentRepository.findByTaskIdAndDeletedAtIsNullOrderByCreatedAtDesc(taskId);
+        List<TaskAttachment> attachments = attachmentRepository.findByTaskIdAndDeletedAtIsNullOrderByCreatedAtDesc(taskId, tenantId);
         return attachments.stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
@@ -161,6 +182,8 @@ public class TaskAttachmentServiceImpl implements TaskAttachmentService {
         
         // Delete attachment record
         attachmentRepository.delete(attachment);
+        tenantChangeCounterService.recordChange(tenantId);
+        taskCacheService.evict(tenantId, List.of(attachment.getTask().getId()));
         log.info("Attachment deleted successfully with ID: {}", attachmentId);
     }
 
@@ -175,7 +198,7 @@ public class TaskAttachmentServiceImpl implements TaskAttachmentService {
         taskRepository.findByIdAndTenantId(taskId, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
         
-        return attachmentRepository.countByTaskIdAndDeletedAtIsNull(taskId);
+        return attachmentRepository.countByTaskIdAndDeletedAtIsNull(taskId, tenantId);
     }
 
     /**
@@ -0,0 +1,40 @@
+package com.adewunmi.task_management_api.service;
+
+import com.adewunmi.task_management_api.dto.response.TaskResponse;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Service interface for the read-through cache of single task responses
+ * A bounded in-process cache keyed by (tenant, task), optionally backed by Redis so instances share loads
+ */
+public interface TaskCacheService {
+
+    /**
+     * Redis channel on which instances announce invalidated tasks to each other
+     */
+    String INVALIDATION_CHANNEL = "task-cache:invalidations";
+
+    /**
+     * Return the cached response of the task, calling the loader on a miss.
+     * Every call gets its own copy, so callers may modify it.
+     */
+    TaskResponse get(Long tenantId, Long taskId, Supplier<TaskResponse> loader);
+
+    /**
+     * Drop the cached responses of the given tasks once the surrounding transaction commits
+     */
+    void evict(Long tenantId, Collection<Long> taskIds);
+
+    /**
+     * Drop the cached responses of every task the user created or is assigned to, whose embedded user summary
+     * changes with the user's profile
+     */
+    void evictUser(Long tenantId, Long userId);
+
+    /**
+     * Apply an invalidation announced by another instance on the invalidation channel
+     */
+    void handleInvalidation(String message);
+}
@@ -0,0 +1,284 @@
+package com.adewunmi.task_management_api.service;
+
+import com.adewunmi.task_management_api.dto.response.TaskResponse;
+import com.adewunmi.task_management_api.repository.TaskRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation for the two-level task response cache.
+ * Level one is an in-process LRU bounded by size and TTL; level two (optional) is Redis, shared by all instances.
+ * Invalidations apply after commit: the local entry and the Redis key are dropped and the task ids are published
+ * so other instances drop their local entries too. A load that overlaps an invalidation of its key is returned
+ * but not cached, so a reader that saw the old row cannot put it back after the writer's eviction. The one
+ * remaining window (an invalidation published by another instance that arrives after such a load stored into
+ * Redis) is bounded by the Redis TTL. Responses are mutable, so the cache keeps its own copy and hands out copies.
+ * Off by default: without Redis, a task changed on another instance is served stale for up to the local TTL.
+ */
+@Service
+@Slf4j
+public class TaskCacheServiceImpl implements TaskCacheService {
+
+    private static final String REDIS_KEY_PREFIX = "task-cache:";
+
+    /**
+     * Invalidation generations are kept per stripe of keys rather than per key, so they never need cleaning up;
+     * a collision only skips caching one load
+     */
+    private static final int GENERATION_STRIPES = 256;
+
+    private final ObjectMapper objectMapper;
+    private final TaskRepository taskRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final Duration redisTtl;
+    private final Map<Key, CachedTask> entries;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+    private final Counter invalidations;
+
+    public TaskCacheServiceImpl(
+            ObjectMapper objectMapper,
+            TaskRepository taskRepository,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.task-cache.enabled:false}") boolean enabled,
+            @Value("${app.task-cache.max-entries:10000}") int maxEntries,
+            @Value("${app.task-cache.ttl:60s}") Duration ttl,
+            @Value("${app.task-cache.redis.enabled:false}") boolean redisEnabled,
+            @Value("${app.task-cache.redis.ttl:5m}") Duration redisTtl) {
+        this.objectMapper = objectMapper;
+        this.taskRepository = taskRepository;
+        this.redisTemplate = redisEnabled ? redisTemplate : null;
+        this.enabled = enabled;
+        this.ttlMillis = ttl.toMillis();
+        this.redisTtl = redisTtl;
+
+        this.localHits = cacheGets(meterRegistry, "local", "hit");
+        this.localMisses = cacheGets(meterRegistry, "local", "miss");
+        this.redisHits = cacheGets(meterRegistry, "redis", "hit");
+        this.redisMisses = cacheGets(meterRegistry, "redis", "miss");
+        this.sizeEvictions = cacheEvictions(meterRegistry, "size");
+        this.expiredEvictions = cacheEvictions(meterRegistry, "expired");
+        this.invalidations = cacheEvictions(meterRegistry, "invalidated");
+
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CachedTask> eldest) {
+                if (size() > maxEntries) {
+                    sizeEvictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        });
+        Gauge.builder("task.cache.size", entries, Map::size)
+                .description("Task responses held in the local cache")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public TaskResponse get(Long tenantId, Long taskId, Supplier<TaskResponse> loader) {
+        if (!enabled || tenantId == null) {
+            return loader.get();
+        }
+
+        Key key = new Key(tenantId, taskId);
+        long now = System.currentTimeMillis();
+        CachedTask cached = entries.get(key);
+        if (cached != null) {
+            if (cached.expiresAt() > now) {
+                localHits.increment();
+                return copy(cached.response());
+            }
+            if (entries.remove(key, cached)) {
+                expiredEvictions.increment();
+            }
+        }
+        localMisses.increment();
+
+        int stripe = stripe(key);
+        long generation = generations.get(stripe);
+        TaskResponse response = readRedis(key);
+        boolean loaded = response == null;
+        if (loaded) {
+            response = loader.get();
+        }
+
+        if (generations.get(stripe) == generation) {
+            if (loaded) {
+                writeRedis(key, response);
+            }
+            entries.put(key, new CachedTask(copy(response), now + ttlMillis));
+        }
+        return response;
+    }
+
+    @Override
+    public void evict(Long tenantId, Collection<Long> taskIds) {
+        if (!enabled || tenantId == null || taskIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(taskIds);
+        Runnable apply = () -> {
+            evictLocal(tenantId, ids);
+            evictRedis(tenantId, ids);
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    @Override
+    public void evictUser(Long tenantId, Long userId) {
+        if (!enabled || tenantId == null) {
+            return;
+        }
+        evict(tenantId, taskRepository.findIdsByUserIdAndTenantId(userId, tenantId));
+    }
+
+    @Override
+    public void handleInvalidation(String message) {
+        // Format: <tenantId>:<taskId>,<taskId>,...
+        int separator = message.indexOf(':');
+        try {
+            Long tenantId = Long.valueOf(message.substring(0, separator));
+            List<Long> taskIds = Arrays.stream(message.substring(separator + 1).split(","))
+                    .map(Long::valueOf)
+                    .toList();
+            evictLocal(tenantId, taskIds);
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed task cache invalidation: {}", message);
+        }
+    }
+
+    private void evictLocal(Long tenantId, Collection<Long> taskIds) {
+        for (Long taskId : taskIds) {
+            Key key = new Key(tenantId, taskId);
+            // Bump first: a load still in flight must not store what it read before this change
+            generations.incrementAndGet(stripe(key));
+            if (entries.remove(key) != null) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    private TaskResponse readRedis(Key key) {
+        if (redisTemplate == null) {
+            return null;
+        }
+        try {
+            String json = redisTemplate.opsForValue().get(redisKey(key));
+            if (json == null) {
+                redisMisses.increment();
+                return null;
+            }
+            redisHits.increment();
+            return objectMapper.readValue(json, TaskResponse.class);
+        } catch (JsonProcessingException | RuntimeException e) {
+            // The cache is an optimization: fall back to the database
+            log.warn("Failed to read task {} from Redis", key, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(Key key, TaskResponse response) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(redisKey(key), objectMapper.writeValueAsString(response), redisTtl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to write task {} to Redis", key, e);
+        }
+    }
+
+    private void evictRedis(Long tenantId, List<Long> taskIds) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.delete(taskIds.stream().map(taskId -> redisKey(new Key(tenantId, taskId))).toList());
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, tenantId + ":"
+                    + taskIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        } catch (RuntimeException e) {
+            log.warn("Failed to invalidate tasks {} of tenant {} in Redis; they may be stale for up to {}",
+                    taskIds, tenantId, redisTtl, e);
+        }
+    }
+
+    private static TaskResponse copy(TaskResponse response) {
+        return response.toBuilder()
+                .createdBy(copy(response.getCreatedBy()))
+                .assignedTo(copy(response.getAssignedTo()))
+                .build();
+    }
+
+    private static TaskResponse.UserSummary copy(TaskResponse.UserSummary user) {
+        return user == null ? null : user.toBuilder().build();
+    }
+
+    private static String redisKey(Key key) {
+        return REDIS_KEY_PREFIX + key.tenantId() + ":" + key.taskId();
+    }
+
+    private static int stripe(Key key) {
+        return Math.floorMod(key.hashCode(), GENERATION_STRIPES);
+    }
+
+    private static Counter cacheGets(MeterRegistry meterRegistry, String level, String result) {
+        return Counter.builder("task.cache.gets")
+                .description("Task cache lookups")
+                .tag("level", level)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter cacheEvictions(MeterRegistry meterRegistry, String cause) {
+        return Counter.builder("task.cache.evictions")
+                .description("Task responses removed from the local cache")
+                .tag("cause", cause)
+                .register(meterRegistry);
+    }
+
+    private record Key(Long tenantId, Long taskId) {
+    }
+
+    private record CachedTask(TaskResponse response, long expiresAt) {
+    }
+}
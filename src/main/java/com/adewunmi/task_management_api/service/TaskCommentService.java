@@ -4,6 +4,7 @@ import com.adewunmi.task_management_api.dto.request.CommentRequest;
 import com.adewunmi.task_management_api.dto.response.CommentResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * Service interface for Task Comment operations
@@ -21,6 +22,11 @@ public interface TaskCommentService {
      */
     Page<CommentResponse> getTaskComments(Long taskId, Pageable pageable);
     
+    /**
+     * Get comments for a task as a slice, without a total count
+     */
+    Slice<CommentResponse> getTaskCommentsSlice(Long taskId, Pageable pageable);
+    
     /**
      * Get a specific comment by ID
      */
@@ -17,11 +17,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * Service implementation for Task Comment Management
  * Provides functionality to add, retrieve, update, and delete comments on tasks
@@ -35,6 +38,8 @@ public class TaskCommentServiceImpl implements TaskCommentService {
     private final TaskCommentRepository commentRepository;
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final TenantChangeCounterService tenantChangeCounterService;
+    private final TaskCacheService taskCacheService;
 
     @Override
     public CommentResponse addComment(Long taskId, CommentRequest request) {
@@ -63,6 +68,9 @@ public class TaskCommentServiceImpl implements TaskCommentService {
                 .build();
         
         TaskComment savedComment = commentRepository.save(comment);
+        tenantChangeCounterService.recordChange(tenantId);
+        // The cached task response carries the comment count
+        taskCacheService.evict(tenantId, List.of(taskId));
         log.info("Comment added successfully with ID: {}", savedComment.getId());
         
         return mapToResponse(savedComment);
@@ -79,7 +87,22 @@ public class TaskCommentServiceImpl implements TaskCommentService {
         taskRepository.findByIdAndTenantId(taskId, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
         
-        Page<TaskComment> comments = commentRepository.findByTaskIdAndDeletedAtIsNull(taskId, pageable);
+        Page<TaskComment> comments = commentRepository.findByTaskIdAndDeletedAtIsNull(taskId, tenantId, pageable);
+        return comments.map(this::mapToResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<CommentResponse> getTaskCommentsSlice(Long taskId, Pageable pageable) {
+        log.info("Fetching comments slice for task ID: {}", taskId);
+        
+        Long tenantId = TenantContext.getCurrentTenant();
+        
+        // Verify task exists and belongs to tenant
+        taskRepository.findByIdAndTenantId(taskId, tenantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
+        
+        Slice<TaskComment> comments = commentRepository.findSliceByTaskIdAndDeletedAtIsNull(taskId, tenantId, pageable);
         return comments.map(this::mapToResponse);
     }
 
@@ -138,6 +161,8 @@ public class TaskCommentServiceImpl implements TaskCommentService {
         }
         
         commentRepository.delete(comment);
+        tenantChangeCounterService.recordChange(tenantId);
+        taskCacheService.evict(tenantId, List.of(comment.getTask().getId()));
         log.info("Comment deleted successfully with ID: {}", commentId);
     }
 
@@ -152,7 +177,7 @@ public class TaskCommentServiceImpl implements TaskCommentService {
         taskRepository.findByIdAndTenantId(taskId, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
         
-        return commentRepository.countByTaskIdAndDeletedAtIsNull(taskId);
+        return commentRepository.countByTaskIdAndDeletedAtIsNull(taskId, tenantId);
     }
 
     /**
@@ -0,0 +1,108 @@
+package com.adewunmi.task_management_api.service;
+
+import com.adewunmi.task_management_api.entity.Task;
+import com.adewunmi.task_management_api.enums.TaskPriority;
+import com.adewunmi.task_management_api.enums.TaskRollupMetric;
+import com.adewunmi.task_management_api.enums.TaskStatus;
+import com.adewunmi.task_management_api.repository.TagUsage;
+import com.adewunmi.task_management_api.repository.TaskBucketRow;
+import com.adewunmi.task_management_api.repository.TaskDayCount;
+import com.adewunmi.task_management_api.repository.TaskUserCount;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Service interface for the task counters: per-tenant and per-assignee totals (tenant_task_counters) and
+ * per-day analytics counts (task_daily_rollups)
+ * Task writes report how a task moved between buckets; dashboards and analytics read the counts without scanning tasks
+ */
+public interface TaskCounterService {
+
+    /**
+     * Where a live task is counted: its status, priority and assignee (null when unassigned) for the totals,
+     * its creator, tags, creation day and completion day (null when not completed) for the daily rollups
+     */
+    record Bucket(TaskStatus status, TaskPriority priority, Long assigneeId, Long creatorId, Set<String> tags,
+                  LocalDate createdDate, LocalDate completedDate) {
+
+        /**
+         * The task's current bucket, or null for a soft-deleted task, which is not counted
+         */
+        public static Bucket of(Task task) {
+            if (task.getDeletedAt() != null) {
+                return null;
+            }
+            return new Bucket(task.getStatus(), task.getPriority(),
+                    task.getAssignedTo() != null ? task.getAssignedTo().getId() : null,
+                    task.getCreatedBy() != null ? task.getCreatedBy().getId() : null,
+                    TaskServiceImpl.parseTags(task.getTags()),
+                    toDate(task.getCreatedAt() != null ? task.getCreatedAt() : LocalDateTime.now()),
+                    toDate(task.getCompletedAt()));
+        }
+
+        /**
+         * The bucket of a live task read before a set-based update
+         */
+        public static Bucket of(TaskBucketRow row) {
+            return new Bucket(row.getStatus(), row.getPriority(), row.getAssigneeId(), row.getCreatorId(),
+                    TaskServiceImpl.parseTags(row.getTags()), toDate(row.getCreatedAt()), toDate(row.getCompletedAt()));
+        }
+
+        public Bucket withStatus(TaskStatus status, LocalDate completedDate) {
+            return new Bucket(status, priority, assigneeId, creatorId, tags, createdDate, completedDate);
+        }
+
+        public Bucket withAssignee(Long assigneeId) {
+            return new Bucket(status, priority, assigneeId, creatorId, tags, createdDate, completedDate);
+        }
+
+        private static LocalDate toDate(LocalDateTime dateTime) {
+            return dateTime != null ? dateTime.toLocalDate() : null;
+        }
+    }
+
+    /**
+     * Move one task from one bucket to another; before is null for a new task, after is null for a removed one.
+     * The counters are updated in the surrounding transaction, just before it commits.
+     */
+    void recordChange(Long tenantId, Bucket before, Bucket after);
+
+    /**
+     * Move a number of tasks that share the same buckets, for bulk updates
+     */
+    void recordChange(Long tenantId, Bucket before, Bucket after, long tasks);
+
+    /**
+     * Counts of the tenant's live tasks, or of those assigned to assigneeId when it is not null
+     */
+    TaskCounts getCounts(Long tenantId, Long assigneeId);
+
+    /**
+     * Tasks created (CREATED) or completed (COMPLETED) on each day from from to to, days without any omitted
+     */
+    List<TaskDayCount> getDailyCounts(Long tenantId, TaskRollupMetric metric, LocalDate from, LocalDate to);
+
+    /**
+     * The users that created (CREATED) or are assigned (ASSIGNED) the most tasks created from from to to
+     */
+    List<TaskUserCount> getTopUsers(Long tenantId, TaskRollupMetric metric, LocalDate from, LocalDate to, int limit);
+
+    /**
+     * The most used tags of tasks created from from to to
+     */
+    List<TagUsage> getTopTags(Long tenantId, LocalDate from, LocalDate to, int limit);
+
+    /**
+     * Recount every tenant and repair counters that drifted; returns the number of tenants repaired
+     */
+    int reconcile();
+
+    /**
+     * Drop rollup rows that fell to zero and repair the rollups of tenants that drifted; returns the number
+     * of tenants repaired
+     */
+    int compactRollups();
+}
@@ -0,0 +1,355 @@
+package com.adewunmi.task_management_api.service;
+
+import com.adewunmi.task_management_api.entity.TaskCounter;
+import com.adewunmi.task_management_api.entity.TaskDailyRollup;
+import com.adewunmi.task_management_api.enums.TaskPriority;
+import com.adewunmi.task_management_api.enums.TaskRollupMetric;
+import com.adewunmi.task_management_api.enums.TaskStatus;
+import com.adewunmi.task_management_api.repository.TagUsage;
+import com.adewunmi.task_management_api.repository.TaskCountRow;
+import com.adewunmi.task_management_api.repository.TaskCounterRepository;
+import com.adewunmi.task_management_api.repository.TaskDailyRollupRepository;
+import com.adewunmi.task_management_api.repository.TaskDayCount;
+import com.adewunmi.task_management_api.repository.TaskRepository;
+import com.adewunmi.task_management_api.repository.TaskTagRepository;
+import com.adewunmi.task_management_api.repository.TaskUserCount;
+import com.adewunmi.task_management_api.repository.TenantRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Service implementation for the task counters.
+ * A transaction collects its deltas and writes them just before it commits, in one sorted pass: counter rows
+ * are hot (every write of a tenant touches its tenant-wide rows), so they are locked as late and as briefly as
+ * possible and always in the same order. Writers hold a shared per-tenant advisory lock while their deltas are
+ * in flight; the reconciliation and the rollup compaction take it exclusively, so they recount a tenant while
+ * no counted change is pending.
+ * The upserts and the advisory locks are PostgreSQL, so startup fails if the counters are enabled on another
+ * database; with app.task-counters.enabled off (the default, and H2) counts are read from the tasks table instead.
+ */
+@Service
+@Slf4j
+public class TaskCounterServiceImpl implements TaskCounterService {
+
+    private final TaskCounterRepository counterRepository;
+    private final TaskDailyRollupRepository rollupRepository;
+    private final TaskRepository taskRepository;
+    private final TaskTagRepository taskTagRepository;
+    private final TenantRepository tenantRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    public TaskCounterServiceImpl(
+            TaskCounterRepository counterRepository,
+            TaskDailyRollupRepository rollupRepository,
+            TaskRepository taskRepository,
+            TaskTagRepository taskTagRepository,
+            TenantRepository tenantRepository,
+            PlatformTransactionManager transactionManager,
+            DataSource dataSource,
+            @Value("${app.task-counters.enabled:false}") boolean enabled) {
+        if (enabled) {
+            requirePostgres(dataSource);
+        }
+        this.counterRepository = counterRepository;
+        this.rollupRepository = rollupRepository;
+        this.taskRepository = taskRepository;
+        this.taskTagRepository = taskTagRepository;
+        this.tenantRepository = tenantRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+    }
+
+    private static void requirePostgres(DataSource dataSource) {
+        String database;
+        try {
+            database = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Could not determine the database for app.task-counters.enabled", e);
+        }
+        if (!"PostgreSQL".equals(database)) {
+            throw new IllegalStateException("app.task-counters.enabled requires PostgreSQL, but the database is "
+                    + database + "; turn it off to count from the tasks table");
+        }
+    }
+
+    @Override
+    public void recordChange(Long tenantId, Bucket before, Bucket after) {
+        recordChange(tenantId, before, after, 1);
+    }
+
+    @Override
+    public void recordChange(Long tenantId, Bucket before, Bucket after, long tasks) {
+        if (!enabled || tenantId == null || tasks == 0 || Objects.equals(before, after)) {
+            return;
+        }
+        Deltas deltas = new Deltas();
+        deltas.add(tenantId, before, -tasks);
+        deltas.add(tenantId, after, tasks);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionTemplate.executeWithoutResult(status -> apply(deltas));
+            return;
+        }
+
+        Deltas pending = (Deltas) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Deltas transactionDeltas = new Deltas();
+            TransactionSynchronizationManager.bindResource(this, transactionDeltas);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    apply(transactionDeltas);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TaskCounterServiceImpl.this);
+                }
+            });
+            pending = transactionDeltas;
+        }
+        pending.addAll(deltas);
+    }
+
+    @Override
+    public TaskCounts getCounts(Long tenantId, Long assigneeId) {
+        List<TaskCountRow> rows;
+        if (enabled) {
+            rows = counterRepository.findCounts(tenantId, assigneeId != null ? assigneeId : TaskCounter.ALL_ASSIGNEES);
+        } else if (assigneeId == null) {
+            rows = taskRepository.countByStatusAndPriority(tenantId);
+        } else {
+            rows = taskRepository.countByStatusAndPriorityAssignedTo(tenantId, assigneeId);
+        }
+        return TaskCounts.of(rows);
+    }
+
+    @Override
+    public List<TaskDayCount> getDailyCounts(Long tenantId, TaskRollupMetric metric, LocalDate from, LocalDate to) {
+        if (enabled) {
+            return rollupRepository.findDailyCounts(tenantId, metric, from, to);
+        }
+        return switch (metric) {
+            case CREATED -> taskRepository.countCreatedByDay(tenantId, from.atStartOfDay(), to.atTime(LocalTime.MAX));
+            case COMPLETED -> taskRepository.countCompletedByDay(tenantId, from.atStartOfDay(), to.atTime(LocalTime.MAX));
+            default -> throw new IllegalArgumentException("No daily counts for " + metric);
+        };
+    }
+
+    @Override
+    public List<TaskUserCount> getTopUsers(Long tenantId, TaskRollupMetric metric, LocalDate from, LocalDate to,
+                                           int limit) {
+        if (enabled) {
+            return rollupRepository.findTopUsers(tenantId, metric, from, to, PageRequest.of(0, limit));
+        }
+        return switch (metric) {
+            case CREATED -> taskRepository.countTopCreators(
+                    tenantId, from.atStartOfDay(), to.atTime(LocalTime.MAX), PageRequest.of(0, limit));
+            case ASSIGNED -> taskRepository.countTopAssignees(
+                    tenantId, from.atStartOfDay(), to.atTime(LocalTime.MAX), PageRequest.of(0, limit));
+            default -> throw new IllegalArgumentException("No user counts for " + metric);
+        };
+    }
+
+    @Override
+    public List<TagUsage> getTopTags(Long tenantId, LocalDate from, LocalDate to, int limit) {
+        if (enabled) {
+            return rollupRepository.findTopTags(tenantId, from, to, PageRequest.of(0, limit));
+        }
+        return taskTagRepository.findMostUsedTags(
+                tenantId, from.atStartOfDay(), to.atTime(LocalTime.MAX), PageRequest.of(0, limit));
+    }
+
+    /**
+     * Intervals are ISO-8601 durations (e.g. PT6H), as @Scheduled does not take the 6h shorthand
+     */
+    @Scheduled(fixedDelayString = "${app.task-counters.reconcile-interval:PT6H}",
+            initialDelayString = "${app.task-counters.reconcile-initial-delay:PT15M}")
+    public void scheduledReconcile() {
+        if (enabled) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(cron = "${app.task-counters.rollup-compaction-cron:0 30 2 * * *}")
+    public void scheduledCompactRollups() {
+        if (enabled) {
+            compactRollups();
+        }
+    }
+
+    @Override
+    public int reconcile() {
+        return enabled ? forEachTenant("task counters", this::reconcileTenant) : 0;
+    }
+
+    @Override
+    public int compactRollups() {
+        return enabled ? forEachTenant("task rollups", this::compactTenantRollups) : 0;
+    }
+
+    /**
+     * One short transaction per tenant, so writers of a tenant wait only for its own recount
+     */
+    private int forEachTenant(String job, Predicate<Long> repairTenant) {
+        long start = System.currentTimeMillis();
+        int repaired = 0;
+        for (Long tenantId : tenantRepository.findAllIds()) {
+            try {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> repairTenant.test(tenantId)))) {
+                    repaired++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to check {} of tenant {}", job, tenantId, e);
+            }
+        }
+        log.info("Checked {} in {} ms; {} tenants repaired", job, System.currentTimeMillis() - start, repaired);
+        return repaired;
+    }
+
+    private boolean reconcileTenant(Long tenantId) {
+        counterRepository.lockTenantExclusive(tenantId);
+
+        Map<CounterKey, Long> stored = new HashMap<>();
+        counterRepository.findAllCounts(tenantId).forEach(row -> stored.put(
+                new CounterKey(tenantId, row.getAssigneeId(), row.getStatus(), row.getPriority()), row.getTaskCount()));
+        Deltas actual = new Deltas();
+        taskRepository.countBucketsByTenantId(tenantId).forEach(row -> actual.addCounter(
+                tenantId, row.getStatus(), row.getPriority(), row.getAssigneeId(), row.getTaskCount()));
+        if (stored.equals(actual.counters)) {
+            return false;
+        }
+
+        long drifted = actual.counters.keySet().stream()
+                .filter(key -> !actual.counters.get(key).equals(stored.get(key))).count()
+                + stored.keySet().stream().filter(key -> !actual.counters.containsKey(key)).count();
+        log.warn("Task counters of tenant {} drifted in {} buckets; recounting", tenantId, drifted);
+        counterRepository.deleteByTenant(tenantId);
+        counterRepository.recount(tenantId);
+        return true;
+    }
+
+    private boolean compactTenantRollups(Long tenantId) {
+        counterRepository.lockTenantExclusive(tenantId);
+
+        int removed = rollupRepository.deleteZeroCounts(tenantId);
+        long drifted = rollupRepository.countDrift(tenantId);
+        log.debug("Removed {} empty rollup rows of tenant {}", removed, tenantId);
+        if (drifted == 0) {
+            return false;
+        }
+
+        log.warn("Task rollups of tenant {} drifted in {} rows; recounting", tenantId, drifted);
+        rollupRepository.deleteByTenant(tenantId);
+        rollupRepository.recount(tenantId);
+        return true;
+    }
+
+    /**
+     * Sorted, so concurrent writers take tenant locks and counter row locks in the same order and cannot deadlock.
+     * The shared-lock query also flushes pending entity changes, so no task row is locked after a counter row.
+     */
+    private void apply(Deltas deltas) {
+        deltas.tenantIds().forEach(counterRepository::lockTenantShared);
+        deltas.counters.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .sorted(Map.Entry.comparingByKey(CounterKey.ORDER))
+                .forEach(entry -> counterRepository.addToCount(entry.getKey().tenantId(), entry.getKey().assigneeId(),
+                        entry.getKey().status().name(), entry.getKey().priority().name(), entry.getValue()));
+        deltas.rollups.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .sorted(Map.Entry.comparingByKey(RollupKey.ORDER))
+                .forEach(entry -> rollupRepository.addToCount(entry.getKey().tenantId(), entry.getKey().date(),
+                        entry.getKey().metric().name(), entry.getKey().userId(), entry.getKey().tag(),
+                        entry.getValue()));
+    }
+
+    /**
+     * Counter and rollup deltas, summed per row
+     */
+    private static final class Deltas {
+        private final Map<CounterKey, Long> counters = new HashMap<>();
+        private final Map<RollupKey, Long> rollups = new HashMap<>();
+
+        void add(Long tenantId, Bucket bucket, long tasks) {
+            if (bucket == null) {
+                return;
+            }
+            addCounter(tenantId, bucket.status(), bucket.priority(), bucket.assigneeId(), tasks);
+
+            addRollup(tenantId, bucket.createdDate(), TaskRollupMetric.CREATED, TaskDailyRollup.ALL_USERS,
+                    TaskDailyRollup.ALL_TAGS, tasks);
+            if (bucket.creatorId() != null) {
+                addRollup(tenantId, bucket.createdDate(), TaskRollupMetric.CREATED, bucket.creatorId(),
+                        TaskDailyRollup.ALL_TAGS, tasks);
+            }
+            if (bucket.assigneeId() != null) {
+                addRollup(tenantId, bucket.createdDate(), TaskRollupMetric.ASSIGNED, bucket.assigneeId(),
+                        TaskDailyRollup.ALL_TAGS, tasks);
+            }
+            for (String tag : bucket.tags()) {
+                addRollup(tenantId, bucket.createdDate(), TaskRollupMetric.TAGGED, TaskDailyRollup.ALL_USERS, tag, tasks);
+            }
+            if (bucket.completedDate() != null) {
+                addRollup(tenantId, bucket.completedDate(), TaskRollupMetric.COMPLETED, TaskDailyRollup.ALL_USERS,
+                        TaskDailyRollup.ALL_TAGS, tasks);
+            }
+        }
+
+        void addCounter(Long tenantId, TaskStatus status, TaskPriority priority, Long assigneeId, long tasks) {
+            counters.merge(new CounterKey(tenantId, TaskCounter.ALL_ASSIGNEES, status, priority), tasks, Long::sum);
+            if (assigneeId != null) {
+                counters.merge(new CounterKey(tenantId, assigneeId, status, priority), tasks, Long::sum);
+            }
+        }
+
+        void addRollup(Long tenantId, LocalDate date, TaskRollupMetric metric, Long userId, String tag, long tasks) {
+            rollups.merge(new RollupKey(tenantId, metric, date, userId, tag), tasks, Long::sum);
+        }
+
+        void addAll(Deltas other) {
+            other.counters.forEach((key, delta) -> counters.merge(key, delta, Long::sum));
+            other.rollups.forEach((key, delta) -> rollups.merge(key, delta, Long::sum));
+        }
+
+        List<Long> tenantIds() {
+            return counters.keySet().stream().map(CounterKey::tenantId).distinct().sorted().toList();
+        }
+    }
+
+    private record CounterKey(Long tenantId, Long assigneeId, TaskStatus status, TaskPriority priority) {
+        static final Comparator<CounterKey> ORDER = Comparator.comparing(CounterKey::tenantId)
+                .thenComparing(CounterKey::assigneeId)
+                .thenComparing(CounterKey::status)
+                .thenComparing(CounterKey::priority);
+    }
+
+    private record RollupKey(Long tenantId, TaskRollupMetric metric, LocalDate date, Long userId, String tag) {
+        static final Comparator<RollupKey> ORDER = Comparator.comparing(RollupKey::tenantId)
+                .thenComparing(RollupKey::metric)
+                .thenComparing(RollupKey::date)
+                .thenComparing(RollupKey::userId)
+                .thenComparing(RollupKey::tag);
+    }
+}
@@ -0,0 +1,46 @@
+package com.adewunmi.task_management_api.service;
+
+import com.adewunmi.task_management_api.enums.TaskPriority;
+import com.adewunmi.task_management_api.enums.TaskStatus;
+import com.adewunmi.task_management_api.repository.TaskCountRow;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Live task counts of a tenant or of one assignee, by status and by priority
+ */
+public record TaskCounts(Map<TaskStatus, Long> byStatus, Map<TaskPriority, Long> byPriority, long total) {
+
+    public static TaskCounts of(List<TaskCountRow> rows) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        long total = 0;
+        for (TaskCountRow row : rows) {
+            if (row.getTaskCount() == 0) {
+                continue;
+            }
+            byStatus.merge(row.getStatus(), row.getTaskCount(), Long::sum);
+            byPriority.merge(row.getPriority(), row.getTaskCount(), Long::sum);
+            total += row.getTaskCount();
+        }
+        return new TaskCounts(Collections.unmodifiableMap(byStatus), Collections.unmodifiableMap(byPriority), total);
+    }
+
+    public long count(TaskStatus... statuses) {
+        return Arrays.stream(statuses).mapToLong(status -> byStatus.getOrDefault(status, 0L)).sum();
+    }
+
+    /**
+     * Counts keyed by enum name, as the dashboard responses expose them
+     */
+    public static <E extends Enum<E>> Map<String, Long> byName(Map<E, Long> counts) {
+        Map<String, Long> byName = new LinkedHashMap<>();
+        counts.forEach((key, count) -> byName.put(key.name(), count));
+        return byName;
+    }
+}
@@ -0,0 +1,44 @@
+package com.adewunmi.task_management_api.service;
+
+import com.adewunmi.task_management_api.dto.request.TaskFilterRequest;
+import com.adewunmi.task_management_api.entity.Task;
+import com.adewunmi.task_management_api.enums.TaskStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Service interface for the in-memory task filter index
+ * Answers filter, count and page queries for hot tenants from per-value bitmaps of task ids
+ */
+public interface TaskFilterIndexService {
+
+    /**
+     * One page of matching task ids in the requested order, with the exact total.
+     * Empty when the index is disabled or cannot answer the filter or sort (e.g. text search).
+     */
+    Optional<Page<Long>> findTaskIds(Long tenantId, TaskFilterRequest filter, Pageable pageable);
+
+    /**
+     * Record a created or updated task once the surrounding transaction commits
+     */
+    void onTaskSaved(Task task, Set<String> tags);
+
+    /**
+     * Drop a deleted task once the surrounding transaction commits
+     */
+    void onTaskDeleted(Long tenantId, Long taskId);
+
+    /**
+     * Record a bulk status change once the surrounding transaction commits
+     */
+    void onTasksStatusChanged(Long tenantId, Collection<Long> taskIds, TaskStatus status);
+
+    /**
+     * Record a bulk assignment (null assignee: unassigned) once the surrounding transaction commits
+     */
+    void onTasksAssigned(Long tenantId, Collection<Long> taskIds, Long assigneeId);
+}
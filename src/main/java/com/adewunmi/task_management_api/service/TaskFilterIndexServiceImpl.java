@@ -0,0 +1,261 @@
+package com.adewunmi.task_management_api.service;
+
+import com.adewunmi.task_management_api.dto.request.TaskFilterRequest;
+import com.adewunmi.task_management_api.entity.Task;
+import com.adewunmi.task_management_api.enums.TaskStatus;
+import com.adewunmi.task_management_api.repository.TaskIdTag;
+import com.adewunmi.task_management_api.repository.TaskIndexRow;
+import com.adewunmi.task_management_api.repository.TaskRepository;
+import com.adewunmi.task_management_api.repository.TaskTagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Service implementation for the in-memory task filter index.
+ * Tenants are indexed lazily on their first list query and kept in a bounded LRU, so memory grows with the
+ * number of hot tenants rather than the whole table. Writes made through TaskService are applied after commit;
+ * writes from other application instances are picked up when the index is rebuilt after max-age.
+ */
+@Service
+@Slf4j
+public class TaskFilterIndexServiceImpl implements TaskFilterIndexService {
+
+    private static final Map<String, Function<TenantTaskBitmaps.Entry, Comparable>> SORT_KEYS = Map.of(
+            "id", TenantTaskBitmaps.Entry::id,
+            "createdAt", TenantTaskBitmaps.Entry::createdAt,
+            "dueDate", TenantTaskBitmaps.Entry::dueDate,
+            // Enums are stored as strings, so the database orders them by name
+            "status", entry -> entry.status().name(),
+            "priority", entry -> entry.priority().name());
+
+    private final TaskRepository taskRepository;
+    private final TaskTagRepository taskTagRepository;
+    private final boolean enabled;
+    private final long maxAgeMillis;
+    private final Map<Long, TenantTaskBitmaps> indexes;
+
+    public TaskFilterIndexServiceImpl(
+            TaskRepository taskRepository,
+            TaskTagRepository taskTagRepository,
+            @Value("${app.filter-index.enabled:false}") boolean enabled,
+            @Value("${app.filter-index.max-tenants:20}") int maxTenants,
+            @Value("${app.filter-index.max-age:10m}") Duration maxAge) {
+        this.taskRepository = taskRepository;
+        this.taskTagRepository = taskTagRepository;
+        this.enabled = enabled;
+        this.maxAgeMillis = maxAge.toMillis();
+        this.indexes = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, TenantTaskBitmaps> eldest) {
+                return size() > maxTenants;
+            }
+        });
+    }
+
+    @Override
+    public Optional<Page<Long>> findTaskIds(Long tenantId, TaskFilterRequest filter, Pageable pageable) {
+        if (!enabled || tenantId == null || filter.getSearch() != null && !filter.getSearch().isBlank()) {
+            return Optional.empty();
+        }
+        Comparator<TenantTaskBitmaps.Entry> order = toComparator(pageable.getSort());
+        if (order == null) {
+            return Optional.empty();
+        }
+
+        TenantTaskBitmaps index = indexes.computeIfAbsent(tenantId, id -> new TenantTaskBitmaps());
+        synchronized (index) {
+            if (!index.isBuilt() || System.currentTimeMillis() - index.getBuiltAt() > maxAgeMillis) {
+                build(index, tenantId);
+            }
+
+            BitSet matches = match(index, filter);
+            List<Long> ids = index.page(matches, order, pageable.getOffset(), pageable.getPageSize());
+            return Optional.of(new PageImpl<>(ids, pageable, matches.cardinality()));
+        }
+    }
+
+    @Override
+    public void onTaskSaved(Task task, Set<String> tags) {
+        if (!enabled) {
+            return;
+        }
+        TenantTaskBitmaps.Entry entry = new TenantTaskBitmaps.Entry(
+                task.getId(),
+                task.getStatus(),
+                task.getPriority(),
+                task.getAssignedTo() != null ? task.getAssignedTo().getId() : null,
+                task.getCreatedBy().getId(),
+                task.getDueDate(),
+                task.getCreatedAt(),
+                Set.copyOf(tags));
+        afterCommit(task.getTenant().getId(), index -> index.upsert(entry));
+    }
+
+    @Override
+    public void onTaskDeleted(Long tenantId, Long taskId) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(tenantId, index -> index.remove(taskId));
+    }
+
+    @Override
+    public void onTasksStatusChanged(Long tenantId, Collection<Long> taskIds, TaskStatus status) {
+        if (!enabled) {
+            return;
+        }
+        List<Long> ids = List.copyOf(taskIds);
+        afterCommit(tenantId, index -> index.update(ids, entry -> new TenantTaskBitmaps.Entry(
+                entry.id(), status, entry.priority(), entry.assigneeId(), entry.creatorId(),
+                entry.dueDate(), entry.createdAt(), entry.tags())));
+    }
+
+    @Override
+    public void onTasksAssigned(Long tenantId, Collection<Long> taskIds, Long assigneeId) {
+        if (!enabled) {
+            return;
+        }
+        List<Long> ids = List.copyOf(taskIds);
+        afterCommit(tenantId, index -> index.update(ids, entry -> new TenantTaskBitmaps.Entry(
+                entry.id(), entry.status(), entry.priority(), assigneeId, entry.creatorId(),
+                entry.dueDate(), entry.createdAt(), entry.tags())));
+    }
+
+    /**
+     * Apply a change to the tenant's index (if one is loaded) only once the data is visible to a rebuild too
+     */
+    private void afterCommit(Long tenantId, Consumer<TenantTaskBitmaps> change) {
+        Runnable apply = () -> {
+            TenantTaskBitmaps index = indexes.get(tenantId);
+            if (index == null) {
+                return;
+            }
+            synchronized (index) {
+                if (index.isBuilt()) {
+                    change.accept(index);
+                }
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    private void build(TenantTaskBitmaps index, Long tenantId) {
+        long start = System.currentTimeMillis();
+        index.clear();
+
+        Map<Long, Set<String>> tagsByTask = new HashMap<>();
+        for (TaskIdTag taskTag : taskTagRepository.findTagsByTenantId(tenantId)) {
+            tagsByTask.computeIfAbsent(taskTag.getTaskId(), id -> new HashSet<>()).add(taskTag.getTag());
+        }
+        for (TaskIndexRow row : taskRepository.findIndexRowsByTenantId(tenantId)) {
+            index.upsert(new TenantTaskBitmaps.Entry(
+                    row.getId(),
+                    row.getStatus(),
+                    row.getPriority(),
+                    row.getAssigneeId(),
+                    row.getCreatorId(),
+                    row.getDueDate(),
+                    row.getCreatedAt(),
+                    tagsByTask.getOrDefault(row.getId(), Set.of())));
+        }
+
+        index.markBuilt(System.currentTimeMillis());
+        log.info("Built task filter index for tenant {}: {} tasks in {} ms",
+                tenantId, index.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Same predicates as TaskServiceImpl#createSpecification, minus text search
+     */
+    private BitSet match(TenantTaskBitmaps index, TaskFilterRequest filter) {
+        BitSet result = index.all();
+
+        if (filter.getStatuses() != null && !filter.getStatuses().isEmpty()) {
+            result.and(index.withStatus(filter.getStatuses()));
+        }
+        if (filter.getPriorities() != null && !filter.getPriorities().isEmpty()) {
+            result.and(index.withPriority(filter.getPriorities()));
+        }
+        if (filter.getAssignedToId() != null) {
+            result.and(index.withAssignee(filter.getAssignedToId()));
+        }
+        if (filter.getCreatedById() != null) {
+            result.and(index.withCreator(filter.getCreatedById()));
+        }
+        if (filter.getDueDateFrom() != null || filter.getDueDateTo() != null) {
+            result.and(index.dueBetween(filter.getDueDateFrom(), filter.getDueDateTo(), true));
+        }
+
+        Set<String> tags = TaskServiceImpl.parseTags(filter.getTags());
+        if (!tags.isEmpty()) {
+            result.and(index.withAnyTag(tags));
+        }
+
+        BitSet completed = index.withStatus(List.of(TaskStatus.COMPLETED));
+        if (Boolean.TRUE.equals(filter.getOverdue())) {
+            result.and(index.dueBetween(null, LocalDateTime.now(), false));
+            result.andNot(completed);
+        }
+        if (filter.getCompleted() != null) {
+            if (filter.getCompleted()) {
+                result.and(completed);
+            } else {
+                result.andNot(completed);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Comparator for a single-property sort the index can reproduce, or null.
+     * Nulls sort last ascending and first descending, as in PostgreSQL; id breaks ties.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Comparator<TenantTaskBitmaps.Entry> toComparator(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() != 1 || !SORT_KEYS.containsKey(orders.get(0).getProperty())) {
+            return null;
+        }
+
+        Sort.Order order = orders.get(0);
+        Function<TenantTaskBitmaps.Entry, Comparable> key = SORT_KEYS.get(order.getProperty());
+        Comparator<TenantTaskBitmaps.Entry> ascending = Comparator
+                .comparing(key, Comparator.nullsLast(Comparator.<Comparable>naturalOrder()))
+                .thenComparing(TenantTaskBitmaps.Entry::id);
+        return order.isAscending() ? ascending : ascending.reversed();
+    }
+}
@@ -0,0 +1,25 @@
+package com.adewunmi.task_management_api.service;
+
+import com.adewunmi.task_management_api.dto.response.BulkImportResponse;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+
+/**
+ * Service interface for bulk task import
+ * Validates rows individually and inserts the valid ones in JDBC batches
+ */
+public interface TaskImportService {
+
+    /**
+     * Import tasks from a JSON array of task requests, read one element at a time
+     * so that a body over the row limit is rejected before it is deserialized in full
+     */
+    BulkImportResponse importTasks(InputStream json);
+
+    /**
+     * Import tasks from a CSV file with a header row
+     * (title, description, status, priority, dueDate, assignedToId, tags)
+     */
+    BulkImportResponse importTasksFromCsv(MultipartFile file);
+}
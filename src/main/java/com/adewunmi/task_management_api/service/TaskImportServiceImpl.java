@@ -0,0 +1,407 @@
+package com.adewunmi.task_management_api.service;
+
+import com.adewunmi.task_management_api.dto.request.TaskRequest;
+import com.adewunmi.task_management_api.dto.response.BulkImportResponse;
+import com.adewunmi.task_management_api.entity.Task;
+import com.adewunmi.task_management_api.entity.TaskTag;
+import com.adewunmi.task_management_api.entity.Tenant;
+import com.adewunmi.task_management_api.entity.User;
+import com.adewunmi.task_management_api.enums.TaskPriority;
+import com.adewunmi.task_management_api.enums.TaskStatus;
+import com.adewunmi.task_management_api.exception.BadRequestException;
+import com.adewunmi.task_management_api.multitenant.TenantContext;
+import com.adewunmi.task_management_api.repository.TaskRepository;
+import com.adewunmi.task_management_api.repository.TaskTagRepository;
+import com.adewunmi.task_management_api.repository.UserRepository;
+import com.adewunmi.task_management_api.security.CustomUserDetails;
+import com.adewunmi.task_management_api.validation.TaskValidator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation for bulk task import.
+ * Task and tag ids come from pooled sequences, so Hibernate can group the inserts into JDBC batches;
+ * the persistence context is flushed and cleared after every batch to keep memory flat.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class TaskImportServiceImpl implements TaskImportService {
+
+    private static final List<String> CSV_REQUIRED_COLUMNS = List.of("title", "status", "priority");
+
+    private final TaskRepository taskRepository;
+    private final TaskTagRepository taskTagRepository;
+    private final UserRepository userRepository;
+    private final TaskValidator taskValidator;
+    private final Validator validator;
+    private final CachedCountService cachedCountService;
+    private final TaskFilterIndexService taskFilterIndexService;
+    private final TenantChangeCounterService tenantChangeCounterService;
+    private final TaskCounterService taskCounterService;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.import.max-rows:10000}")
+    private int maxRows;
+
+    @Override
+    public BulkImportResponse importTasks(InputStream json) {
+        List<TaskRequest> requests = readJson(json);
+        log.info("Bulk importing {} tasks", requests.size());
+        return importRows(requests, new ArrayList<>());
+    }
+
+    @Override
+    public BulkImportResponse importTasksFromCsv(MultipartFile file) {
+        log.info("Bulk importing tasks from CSV file: {}", file.getOriginalFilename());
+
+        if (file.isEmpty()) {
+            throw new BadRequestException("Cannot import an empty file");
+        }
+
+        List<List<String>> records;
+        try (Reader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            records = readCsv(reader);
+        } catch (IOException e) {
+            throw new BadRequestException("Could not read CSV file: " + e.getMessage());
+        }
+        if (records.isEmpty()) {
+            throw new BadRequestException("CSV file has no header row");
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> header = records.get(0);
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.keySet().containsAll(CSV_REQUIRED_COLUMNS)) {
+            throw new BadRequestException("CSV header must include the columns " + CSV_REQUIRED_COLUMNS);
+        }
+
+        // Rows that cannot be parsed stay in the list as null so row numbers line up
+        List<TaskRequest> requests = new ArrayList<>(records.size() - 1);
+        List<BulkImportResponse.RowError> errors = new ArrayList<>();
+        for (int i = 1; i < records.size(); i++) {
+            try {
+                requests.add(toTaskRequest(records.get(i), columns));
+            } catch (IllegalArgumentException e) {
+                requests.add(null);
+                errors.add(new BulkImportResponse.RowError(i, e.getMessage()));
+            }
+        }
+
+        return importRows(requests, errors);
+    }
+
+    /**
+     * Deserialize the array element by element and stop at the first task past max-rows, so an oversized body
+     * costs at most max-rows parsed tasks rather than the whole list
+     */
+    private List<TaskRequest> readJson(InputStream json) {
+        List<TaskRequest> requests = new ArrayList<>();
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BadRequestException("Expected a JSON array of tasks");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new BadRequestException("Unexpected end of the JSON array of tasks");
+                }
+                if (requests.size() == maxRows) {
+                    throw new BadRequestException("A bulk import is limited to " + maxRows + " tasks");
+                }
+                requests.add(objectMapper.readValue(parser, TaskRequest.class));
+            }
+        } catch (IOException e) {
+            throw new BadRequestException("Could not read JSON body: " + e.getMessage());
+        }
+        return requests;
+    }
+
+    private BulkImportResponse importRows(List<TaskRequest> requests, List<BulkImportResponse.RowError> errors) {
+        long start = System.nanoTime();
+
+        Long tenantId = TenantContext.getCurrentTenant();
+        if (tenantId == null) {
+            throw new BadRequestException("Tenant context not found");
+        }
+        if (requests.isEmpty()) {
+            throw new BadRequestException("No tasks to import");
+        }
+        if (requests.size() > maxRows) {
+            throw new BadRequestException("A bulk import is limited to " + maxRows + " tasks");
+        }
+
+        CustomUserDetails currentUser = getCurrentUserDetails();
+
+        // Resolve every referenced assignee in one query
+        Set<Long> assigneeIds = requests.stream()
+                .filter(Objects::nonNull)
+                .map(TaskRequest::getAssignedToId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> knownAssignees = assigneeIds.isEmpty()
+                ? Set.of()
+                : userRepository.findIdsByIdInAndTenantId(assigneeIds, tenantId);
+
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
+        int imported = 0;
+        List<Task> tasks = new ArrayList<>(batchSize);
+        List<TaskTag> taskTags = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            TaskRequest request = requests.get(i);
+            if (request == null) {
+                continue;
+            }
+
+            String error = validateRow(request, knownAssignees);
+            if (error != null) {
+                errors.add(new BulkImportResponse.RowError(i + 1, error));
+                continue;
+            }
+
+            // References only: no tenant or user rows are loaded per task
+            Task task = Task.builder()
+                    .title(request.getTitle())
+                    .description(request.getDescription())
+                    .status(request.getStatus())
+                    .priority(request.getPriority())
+                    .dueDate(request.getDueDate())
+                    .tenant(entityManager.getReference(Tenant.class, tenantId))
+                    .createdBy(entityManager.getReference(User.class, currentUser.getId()))
+                    .assignedTo(request.getAssignedToId() != null
+                            ? entityManager.getReference(User.class, request.getAssignedToId())
+                            : null)
+                    .tags(request.getTags())
+                    .build();
+            tasks.add(task);
+            for (String tag : TaskServiceImpl.parseTags(task.getTags())) {
+                taskTags.add(TaskTag.builder()
+                        .tenant(task.getTenant())
+                        .task(task)
+                        .tag(tag)
+                        .build());
+            }
+
+            if (tasks.size() == batchSize) {
+                imported += flushBatch(tasks, taskTags);
+            }
+        }
+        imported += flushBatch(tasks, taskTags);
+
+        cachedCountService.evict(TaskServiceImpl.countKeyPrefix(tenantId));
+        tenantChangeCounterService.recordChange(tenantId);
+
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        double rowsPerSecond = durationMs > 0 ? imported * 1000.0 / durationMs : imported;
+        errors.sort((a, b) -> Integer.compare(a.getRow(), b.getRow()));
+        log.info("Bulk import finished: {} imported, {} rejected in {} ms ({} rows/s)",
+                imported, errors.size(), durationMs, Math.round(rowsPerSecond));
+
+        return BulkImportResponse.builder()
+                .totalRows(requests.size())
+                .importedCount(imported)
+                .failedCount(errors.size())
+                .durationMs(durationMs)
+                .rowsPerSecond(rowsPerSecond)
+                .errors(errors)
+                .build();
+    }
+
+    /**
+     * Insert one batch of tasks and their tags, then detach them so the persistence context stays small
+     */
+    private int flushBatch(List<Task> tasks, List<TaskTag> taskTags) {
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+
+        taskRepository.saveAll(tasks);
+        taskTagRepository.saveAll(taskTags);
+        entityManager.flush();
+
+        // Deltas are merged per bucket, so a whole import writes each counter row once at commit
+        for (Task task : tasks) {
+            taskFilterIndexService.onTaskSaved(task, TaskServiceImpl.parseTags(task.getTags()));
+            taskCounterService.recordChange(task.getTenant().getId(), null, TaskCounterService.Bucket.of(task));
+        }
+        entityManager.clear();
+
+        int count = tasks.size();
+        tasks.clear();
+        taskTags.clear();
+        return count;
+    }
+
+    /**
+     * Bean validation, then the TaskValidator business rules, then the assignee lookup; null when the row is valid
+     */
+    private String validateRow(TaskRequest request, Set<Long> knownAssignees) {
+        Set<ConstraintViolation<TaskRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+
+        try {
+            taskValidator.validateTaskCreation(request);
+        } catch (BadRequestException e) {
+            return e.getMessage();
+        }
+
+        if (request.getAssignedToId() != null && !knownAssignees.contains(request.getAssignedToId())) {
+            return "User not found with id: " + request.getAssignedToId();
+        }
+        return null;
+    }
+
+    private TaskRequest toTaskRequest(List<String> record, Map<String, Integer> columns) {
+        String status = csvColumn(record, columns, "status");
+        String priority = csvColumn(record, columns, "priority");
+        String dueDate = csvColumn(record, columns, "duedate");
+        String assignedToId = csvColumn(record, columns, "assignedtoid");
+
+        return TaskRequest.builder()
+                .title(csvColumn(record, columns, "title"))
+                .description(csvColumn(record, columns, "description"))
+                .status(parseValue("status", status, value -> TaskStatus.valueOf(value.toUpperCase(Locale.ROOT))))
+                .priority(parseValue("priority", priority, value -> TaskPriority.valueOf(value.toUpperCase(Locale.ROOT))))
+                .dueDate(parseValue("dueDate", dueDate, LocalDateTime::parse))
+                .assignedToId(parseValue("assignedToId", assignedToId, Long::valueOf))
+                .tags(csvColumn(record, columns, "tags"))
+                .build();
+    }
+
+    private <T> T parseValue(String column, String value, Function<String, T> parser) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": '" + value + "'");
+        }
+    }
+
+    /**
+     * Trimmed value of a named column, or null when the column is absent or blank
+     */
+    private String csvColumn(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Minimal RFC 4180 reader: quoted fields may contain commas, doubled quotes and line breaks.
+     * Blank lines are skipped.
+     */
+    private List<List<String>> readCsv(Reader reader) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        List<String> record = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            char ch = (char) c;
+            if (quoted) {
+                if (ch != '"') {
+                    field.append(ch);
+                    continue;
+                }
+                reader.mark(1);
+                if (reader.read() == '"') {
+                    field.append('"');
+                } else {
+                    quoted = false;
+                    reader.reset();
+                }
+            } else if (ch == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (ch == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n' || ch == '\r') {
+                if (ch == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                record.add(field.toString());
+                field.setLength(0);
+                if (record.size() > 1 || !record.get(0).isBlank()) {
+                    records.add(record);
+                }
+                record = new ArrayList<>();
+            } else {
+                field.append(ch);
+            }
+        }
+        if (field.length() > 0 || !record.isEmpty()) {
+            record.add(field.toString());
+            records.add(record);
+        }
+        return records;
+    }
+
+    /**
+     * Get current authenticated user details
+     */
+    private CustomUserDetails getCurrentUserDetails() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new BadRequestException("User not authenticated");
+        }
+
+        Object principal = authentication.getPrincipal();
+        if (!(principal instanceof CustomUserDetails)) {
+            throw new BadRequestException("Invalid user details");
+        }
+
+        return (CustomUserDetails) principal;
+    }
+}
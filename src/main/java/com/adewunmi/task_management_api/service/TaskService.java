@@ -1,10 +1,22 @@
 package com.adewunmi.task_management_api.service;
 
+import com.adewunmi.task_management_api.dto.request.BulkAssignRequest;
+import com.adewunmi.task_management_api.dto.request.BulkStatusUpdateRequest;
+import com.adewunmi.task_management_api.dto.request.TaskBatchGetRequest;
 import com.adewunmi.task_management_api.dto.request.TaskFilterRequest;
 import com.adewunmi.task_management_api.dto.request.TaskRequest;
+import com.adewunmi.task_management_api.dto.response.BulkUpdateResponse;
+import com.adewunmi.task_management_api.dto.response.CursorPageResponse;
+import com.adewunmi.task_management_api.dto.response.TaskBatchGetResponse;
 import com.adewunmi.task_management_api.dto.response.TaskResponse;
+import com.adewunmi.task_management_api.enums.ExportFormat;
 import com.adewunmi.task_management_api.enums.TaskStatus;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.io.IOException;
+import java.io.OutputStream;
 
 public interface TaskService {
     
@@ -19,9 +31,20 @@ public interface TaskService {
     TaskResponse getTaskById(Long taskId);
     
     /**
-     * Update an existing task
+     * Get many tasks by ID in one query (with tenant isolation); results keep the request order and mark missing ids
      */
-    TaskResponse updateTask(Long taskId, TaskRequest request);
+    TaskBatchGetResponse batchGetTasks(TaskBatchGetRequest request);
+    
+    /**
+     * Update an existing task; when expectedVersion is given (If-Match) the update only applies to that version
+     */
+    TaskResponse updateTask(Long taskId, TaskRequest request, Long expectedVersion);
+    
+    /**
+     * Apply a JSON merge patch (RFC 7396) to a task: only the fields present are validated and written,
+     * an explicit null clears a nullable field. When expectedVersion is given (If-Match) it only applies to that version.
+     */
+    TaskResponse patchTask(Long taskId, JsonNode patch, Long expectedVersion);
     
     /**
      * Delete a task (soft delete)
@@ -44,9 +67,9 @@ public interface TaskService {
     TaskResponse unassignTask(Long taskId);
     
     /**
-     * Update task status
+     * Update task status; when expectedVersion is given (If-Match) the update only applies to that version
      */
-    TaskResponse updateTaskStatus(Long taskId, TaskStatus status);
+    TaskResponse updateTaskStatus(Long taskId, TaskStatus status, Long expectedVersion);
     
     /**
      * Get tasks assigned to current user
@@ -57,4 +80,49 @@ public interface TaskService {
      * Get tasks created by current user
      */
     Page<TaskResponse> getTasksCreatedByMe(TaskFilterRequest filterRequest);
+    
+    /**
+     * Get all tasks using keyset (cursor) pagination, without a total count
+     */
+    CursorPageResponse<TaskResponse> getAllTasksByCursor(TaskFilterRequest filterRequest);
+    
+    /**
+     * Get tasks assigned to current user using keyset (cursor) pagination
+     */
+    CursorPageResponse<TaskResponse> getMyTasksByCursor(TaskFilterRequest filterRequest);
+    
+    /**
+     * Get tasks created by current user using keyset (cursor) pagination
+     */
+    CursorPageResponse<TaskResponse> getTasksCreatedByMeByCursor(TaskFilterRequest filterRequest);
+    
+    /**
+     * Get all tasks as a slice: offset pagination with hasNext but no total count
+     */
+    Slice<TaskResponse> getAllTasksSlice(TaskFilterRequest filterRequest);
+    
+    /**
+     * Get tasks assigned to current user as a slice, without a total count
+     */
+    Slice<TaskResponse> getMyTasksSlice(TaskFilterRequest filterRequest);
+    
+    /**
+     * Get tasks created by current user as a slice, without a total count
+     */
+    Slice<TaskResponse> getTasksCreatedByMeSlice(TaskFilterRequest filterRequest);
+    
+    /**
+     * Stream every task matching the filters to the output, one record per line, with constant memory use
+     */
+    void exportTasks(TaskFilterRequest filterRequest, ExportFormat format, OutputStream outputStream) throws IOException;
+    
+    /**
+     * Change the status of many tasks with set-based updates; tasks whose status cannot make the transition are reported
+     */
+    BulkUpdateResponse bulkUpdateStatus(BulkStatusUpdateRequest request);
+    
+    /**
+     * Assign (or, with no assignee, unassign) many tasks with a single update; tasks that cannot be assigned are reported
+     */
+    BulkUpdateResponse bulkAssign(BulkAssignRequest request);
 }
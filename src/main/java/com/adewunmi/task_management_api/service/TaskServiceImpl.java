@@ -1,36 +1,87 @@
 package com.adewunmi.task_management_api.service;
 
+import com.adewunmi.task_management_api.config.FullTextSearchFunctionContributor;
+import com.adewunmi.task_management_api.dto.request.BulkAssignRequest;
+import com.adewunmi.task_management_api.dto.request.BulkStatusUpdateRequest;
+import com.adewunmi.task_management_api.dto.request.TaskBatchGetRequest;
 import com.adewunmi.task_management_api.dto.request.TaskFilterRequest;
 import com.adewunmi.task_management_api.dto.request.TaskRequest;
+import com.adewunmi.task_management_api.dto.response.BulkUpdateResponse;
+import com.adewunmi.task_management_api.dto.response.CursorPageResponse;
+import com.adewunmi.task_management_api.dto.response.TaskBatchGetResponse;
 import com.adewunmi.task_management_api.dto.response.TaskResponse;
 import com.adewunmi.task_management_api.entity.Task;
+import com.adewunmi.task_management_api.entity.TaskTag;
 import com.adewunmi.task_management_api.entity.Tenant;
 import com.adewunmi.task_management_api.entity.User;
+import com.adewunmi.task_management_api.enums.ExportFormat;
+import com.adewunmi.task_management_api.enums.TaskPriority;
 import com.adewunmi.task_management_api.enums.TaskStatus;
 import com.adewunmi.task_management_api.exception.BadRequestException;
+import com.adewunmi.task_management_api.exception.PreconditionFailedException;
 import com.adewunmi.task_management_api.exception.ResourceNotFoundException;
 import com.adewunmi.task_management_api.multitenant.TenantContext;
+import com.adewunmi.task_management_api.repository.TaskAttachmentRepository;
+import com.adewunmi.task_management_api.repository.TaskBucketRow;
+import com.adewunmi.task_management_api.repository.TaskCommentRepository;
+import com.adewunmi.task_management_api.repository.TaskIdCount;
 import com.adewunmi.task_management_api.repository.TaskRepository;
+import com.adewunmi.task_management_api.repository.TaskTagRepository;
 import com.adewunmi.task_management_api.repository.TenantRepository;
 import com.adewunmi.task_management_api.repository.UserRepository;
 import com.adewunmi.task_management_api.security.CustomUserDetails;
 import com.adewunmi.task_management_api.validation.TaskValidator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -38,10 +89,63 @@ import java.util.List;
 @Transactional
 public class TaskServiceImpl implements TaskService {
 
+    /**
+     * Sort fields usable with cursor pagination: non-null columns with a stable total order once id is appended
+     */
+    private static final Set<String> CURSOR_SORT_FIELDS = Set.of("createdAt", "title", "id");
+
+    /**
+     * Pseudo sort field ordering full-text search results by rank
+     */
+    private static final String RELEVANCE_SORT = "relevance";
+
+    /**
+     * Fields a merge patch may touch; anything else is rejected rather than silently ignored
+     */
+    private static final Set<String> PATCHABLE_FIELDS = Set.of(
+            "title", "description", "status", "priority", "dueDate", "assignedToId", "tags");
+
+    private static final String CSV_HEADER = "id,title,description,status,priority,dueDate,tags,completedAt,"
+            + "createdAt,updatedAt,createdById,createdByEmail,assignedToId,assignedToEmail,"
+            + "commentCount,attachmentCount\r\n";
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final TenantRepository tenantRepository;
+    private final TaskCommentRepository commentRepository;
+    private final TaskAttachmentRepository attachmentRepository;
+    private final TaskTagRepository taskTagRepository;
     private final TaskValidator taskValidator;
+    private final CachedCountService cachedCountService;
+    private final TaskFilterIndexService taskFilterIndexService;
+    private final TenantChangeCounterService tenantChangeCounterService;
+    private final TaskCounterService taskCounterService;
+    private final TaskCacheService taskCacheService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * PostgreSQL full-text search; when false search falls back to LIKE (e.g. H2 test profile)
+     */
+    @Value("${app.search.full-text-enabled:false}")
+    private boolean fullTextSearchEnabled;
+
+    /**
+     * Rows per JDBC round trip (and per count batch) when streaming an export
+     */
+    @Value("${app.export.fetch-size:500}")
+    private int exportFetchSize;
+
+    /**
+     * Most tasks a single bulk status change or assignment may touch
+     */
+    @Value("${app.bulk.max-tasks:1000}")
+    private int bulkMaxTasks;
+
+    /**
+     * Most task ids a single batch get may ask for
+     */
+    @Value("${app.batch-get.max-ids:100}")
+    private int batchGetMaxIds;
 
     @Override
     public TaskResponse createTask(TaskRequest request) {
@@ -82,25 +186,59 @@ public class TaskServiceImpl implements TaskService {
                 .build();
         
         Task savedTask = taskRepository.save(task);
+        syncTags(savedTask);
+        cachedCountService.evict(countKeyPrefix(tenantId));
+        tenantChangeCounterService.recordChange(tenantId);
+        taskCounterService.recordChange(tenantId, null, TaskCounterService.Bucket.of(savedTask));
+        taskFilterIndexService.onTaskSaved(savedTask, parseTags(savedTask.getTags()));
         log.info("Task created successfully with ID: {}", savedTask.getId());
         
         return mapToResponse(savedTask);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    // No transaction of its own, so a cache hit never takes a connection
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public TaskResponse getTaskById(Long taskId) {
         log.info("Fetching task with ID: {}", taskId);
         
         Long tenantId = TenantContext.getCurrentTenant();
-        Task task = taskRepository.findByIdAndTenantId(taskId, tenantId)
-                .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
+        return taskCacheService.get(tenantId, taskId, () -> {
+            Task task = taskRepository.findByIdAndTenantId(taskId, tenantId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
+            return mapToResponse(task);
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskBatchGetResponse batchGetTasks(TaskBatchGetRequest request) {
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(request.getIds()));
+        log.info("Fetching {} tasks by ID", ids.size());
+        
+        if (ids.size() > batchGetMaxIds) {
+            throw new BadRequestException("At most " + batchGetMaxIds + " tasks can be fetched at once");
+        }
+        
+        Long tenantId = TenantContext.getCurrentTenant();
+        Map<Long, TaskResponse> found = findResponsesByIds(ids, tenantId, null);
         
-        return mapToResponse(task);
+        List<TaskBatchGetResponse.Result> results = ids.stream()
+                .map(id -> TaskBatchGetResponse.Result.builder()
+                        .id(id)
+                        .found(found.containsKey(id))
+                        .task(found.get(id))
+                        .build())
+                .toList();
+        return TaskBatchGetResponse.builder()
+                .requestedCount(ids.size())
+                .foundCount(found.size())
+                .results(results)
+                .build();
     }
 
     @Override
-    public TaskResponse updateTask(Long taskId, TaskRequest request) {
+    public TaskResponse updateTask(Long taskId, TaskRequest request, Long expectedVersion) {
         log.info("Updating task with ID: {}", taskId);
         
         // Validate task update
@@ -109,12 +247,16 @@ public class TaskServiceImpl implements TaskService {
         Long tenantId = TenantContext.getCurrentTenant();
         Task task = taskRepository.findByIdAndTenantId(taskId, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
+        checkVersion(task, expectedVersion);
         
         // Validate status transition if status is changing
         if (!task.getStatus().equals(request.getStatus())) {
             taskValidator.validateStatusTransition(task.getStatus(), request.getStatus());
         }
         
+        boolean tagsChanged = !parseTags(task.getTags()).equals(parseTags(request.getTags()));
+        TaskCounterService.Bucket bucketBefore = TaskCounterService.Bucket.of(task);
+        
         // Update fields
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
@@ -139,12 +281,120 @@ public class TaskServiceImpl implements TaskService {
             task.setCompletedAt(null);
         }
         
-        Task updatedTask = taskRepository.save(task);
+        Task updatedTask = saveVersioned(task, expectedVersion);
+        taskFilterIndexService.onTaskSaved(updatedTask, parseTags(updatedTask.getTags()));
+        cachedCountService.evict(countKeyPrefix(tenantId));
+        tenantChangeCounterService.recordChange(tenantId);
+        taskCounterService.recordChange(tenantId, bucketBefore, TaskCounterService.Bucket.of(updatedTask));
+        taskCacheService.evict(tenantId, List.of(taskId));
+        if (tagsChanged) {
+            syncTags(updatedTask);
+        }
         log.info("Task updated successfully with ID: {}", updatedTask.getId());
         
         return mapToResponse(updatedTask);
     }
 
+    @Override
+    public TaskResponse patchTask(Long taskId, JsonNode patch, Long expectedVersion) {
+        log.info("Patching task with ID: {}", taskId);
+        
+        if (patch == null || !patch.isObject()) {
+            throw new BadRequestException("Merge patch must be a JSON object");
+        }
+        List<String> unknownFields = new ArrayList<>();
+        patch.fieldNames().forEachRemaining(field -> {
+            if (!PATCHABLE_FIELDS.contains(field)) {
+                unknownFields.add(field);
+            }
+        });
+        if (!unknownFields.isEmpty()) {
+            throw new BadRequestException("Fields cannot be patched: " + String.join(", ", unknownFields));
+        }
+        
+        Long tenantId = TenantContext.getCurrentTenant();
+        Task task = taskRepository.findByIdAndTenantId(taskId, tenantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
+        checkVersion(task, expectedVersion);
+        TaskCounterService.Bucket bucketBefore = TaskCounterService.Bucket.of(task);
+        
+        // Only touched fields are validated and set; with @DynamicUpdate the UPDATE covers only changed columns
+        if (patch.has("title")) {
+            String title = patchValue(patch, "title", String.class);
+            taskValidator.validateTitle(title);
+            task.setTitle(title);
+        }
+        if (patch.has("description")) {
+            String description = patchValue(patch, "description", String.class);
+            taskValidator.validateDescription(description);
+            task.setDescription(description);
+        }
+        if (patch.has("priority")) {
+            TaskPriority priority = patchValue(patch, "priority", TaskPriority.class);
+            if (priority == null) {
+                throw new BadRequestException("Task priority is required");
+            }
+            task.setPriority(priority);
+        }
+        if (patch.has("dueDate")) {
+            LocalDateTime dueDate = patchValue(patch, "dueDate", LocalDateTime.class);
+            if (!Objects.equals(dueDate, task.getDueDate())) {
+                taskValidator.validateDueDate(dueDate);
+                task.setDueDate(dueDate);
+            }
+        }
+        if (patch.has("status")) {
+            TaskStatus status = patchValue(patch, "status", TaskStatus.class);
+            if (status == null) {
+                throw new BadRequestException("Task status is required");
+            }
+            if (status != task.getStatus()) {
+                taskValidator.validateStatusTransition(task.getStatus(), status);
+                if (status == TaskStatus.COMPLETED) {
+                    task.setCompletedAt(LocalDateTime.now());
+                } else if (task.getStatus() == TaskStatus.COMPLETED) {
+                    task.setCompletedAt(null);
+                }
+                task.setStatus(status);
+            }
+        }
+        if (patch.has("assignedToId")) {
+            Long assignedToId = patchValue(patch, "assignedToId", Long.class);
+            Long currentAssigneeId = task.getAssignedTo() != null ? task.getAssignedTo().getId() : null;
+            // The assignee is only resolved when it actually changes
+            if (assignedToId == null) {
+                task.setAssignedTo(null);
+            } else if (!assignedToId.equals(currentAssigneeId)) {
+                User assignedUser = userRepository.findByIdAndTenantId(assignedToId, tenantId)
+                        .orElseThrow(() -> new ResourceNotFoundException("User", "id", assignedToId));
+                task.setAssignedTo(assignedUser);
+            }
+        }
+        boolean tagsChanged = false;
+        if (patch.has("tags")) {
+            String tags = patchValue(patch, "tags", String.class);
+            taskValidator.validateTags(tags);
+            tagsChanged = !parseTags(task.getTags()).equals(parseTags(tags));
+            task.setTags(tags);
+        }
+        
+        Long versionBefore = task.getVersion();
+        Task updatedTask = saveVersioned(task, expectedVersion);
+        if (!Objects.equals(versionBefore, updatedTask.getVersion())) {
+            taskFilterIndexService.onTaskSaved(updatedTask, parseTags(updatedTask.getTags()));
+            cachedCountService.evict(countKeyPrefix(tenantId));
+            tenantChangeCounterService.recordChange(tenantId);
+            taskCounterService.recordChange(tenantId, bucketBefore, TaskCounterService.Bucket.of(updatedTask));
+            taskCacheService.evict(tenantId, List.of(taskId));
+        }
+        if (tagsChanged) {
+            syncTags(updatedTask);
+        }
+        log.info("Task patched successfully with ID: {}", updatedTask.getId());
+        
+        return mapToResponse(updatedTask);
+    }
+
     @Override
     public void deleteTask(Long taskId) {
         log.info("Deleting task with ID: {}", taskId);
@@ -156,7 +406,17 @@ public class TaskServiceImpl implements TaskService {
         // Validate task deletion
         taskValidator.validateTaskDeletion(task.getStatus());
         
-        taskRepository.delete(task);
+        TaskCounterService.Bucket bucketBefore = TaskCounterService.Bucket.of(task);
+        
+        // Soft delete: the row, its comments and attachments stay until TaskArchiveService moves them to the archive
+        task.softDelete();
+        saveVersioned(task, null);
+        taskTagRepository.deleteByTaskId(taskId);
+        cachedCountService.evict(countKeyPrefix(tenantId));
+        tenantChangeCounterService.recordChange(tenantId);
+        taskCounterService.recordChange(tenantId, bucketBefore, null);
+        taskCacheService.evict(tenantId, List.of(taskId));
+        taskFilterIndexService.onTaskDeleted(tenantId, taskId);
         log.info("Task deleted successfully with ID: {}", taskId);
     }
 
@@ -168,9 +428,59 @@ public class TaskServiceImpl implements TaskService {
         Long tenantId = TenantContext.getCurrentTenant();
         Specification<Task> spec = createSpecification(filterRequest, tenantId);
         Pageable pageable = createPageable(filterRequest);
+        Set<String> fields = resolveFields(filterRequest);
+        
+        // Hot tenants: filter and count from the in-memory bitmaps, then load just the page by id
+        Optional<Page<Long>> indexedIds = taskFilterIndexService.findTaskIds(tenantId, filterRequest, pageable);
+        if (indexedIds.isPresent()) {
+            return getTasksByIds(indexedIds.get(), tenantId, fields);
+        }
+        
+        if (Boolean.TRUE.equals(filterRequest.getEstimateTotal())) {
+            return getTasksWithEstimatedTotal(filterRequest, tenantId, spec, pageable, fields);
+        }
+        
+        // Projection read: no Task/User entities are hydrated for list views
+        Page<TaskResponse> tasks = taskRepository.findResponses(spec, pageable, fields);
+        populateCounts(tasks.getContent(), tenantId, fields);
+        return tasks;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<TaskResponse> getAllTasksSlice(TaskFilterRequest filterRequest) {
+        log.info("Fetching tasks slice with filters");
+        
+        Long tenantId = TenantContext.getCurrentTenant();
+        Specification<Task> spec = createSpecification(filterRequest, tenantId);
+        Pageable pageable = createPageable(filterRequest);
+        Set<String> fields = resolveFields(filterRequest);
         
-        Page<Task> tasks = taskRepository.findAll(spec, pageable);
-        return tasks.map(this::mapToResponse);
+        Slice<TaskResponse> tasks = taskRepository.findResponseSlice(spec, pageable, fields);
+        populateCounts(tasks.getContent(), tenantId, fields);
+        return tasks;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<TaskResponse> getMyTasksSlice(TaskFilterRequest filterRequest) {
+        log.info("Fetching tasks slice assigned to current user");
+        
+        CustomUserDetails currentUser = getCurrentUserDetails();
+        filterRequest.setAssignedToId(currentUser.getId());
+        
+        return getAllTasksSlice(filterRequest);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<TaskResponse> getTasksCreatedByMeSlice(TaskFilterRequest filterRequest) {
+        log.info("Fetching tasks slice created by current user");
+        
+        CustomUserDetails currentUser = getCurrentUserDetails();
+        filterRequest.setCreatedById(currentUser.getId());
+        
+        return getAllTasksSlice(filterRequest);
     }
 
     @Override
@@ -191,8 +501,14 @@ public class TaskServiceImpl implements TaskService {
             throw new BadRequestException("Cannot assign task to an inactive user");
         }
         
+        TaskCounterService.Bucket bucketBefore = TaskCounterService.Bucket.of(task);
         task.setAssignedTo(user);
-        Task updatedTask = taskRepository.save(task);
+        Task updatedTask = saveVersioned(task, null);
+        taskFilterIndexService.onTaskSaved(updatedTask, parseTags(updatedTask.getTags()));
+        cachedCountService.evict(countKeyPrefix(tenantId));
+        tenantChangeCounterService.recordChange(tenantId);
+        taskCounterService.recordChange(tenantId, bucketBefore, TaskCounterService.Bucket.of(updatedTask));
+        taskCacheService.evict(tenantId, List.of(taskId));
         
         log.info("Task assigned successfully");
         return mapToResponse(updatedTask);
@@ -206,22 +522,30 @@ public class TaskServiceImpl implements TaskService {
         Task task = taskRepository.findByIdAndTenantId(taskId, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
         
+        TaskCounterService.Bucket bucketBefore = TaskCounterService.Bucket.of(task);
         task.setAssignedTo(null);
-        Task updatedTask = taskRepository.save(task);
+        Task updatedTask = saveVersioned(task, null);
+        taskFilterIndexService.onTaskSaved(updatedTask, parseTags(updatedTask.getTags()));
+        cachedCountService.evict(countKeyPrefix(tenantId));
+        tenantChangeCounterService.recordChange(tenantId);
+        taskCounterService.recordChange(tenantId, bucketBefore, TaskCounterService.Bucket.of(updatedTask));
+        taskCacheService.evict(tenantId, List.of(taskId));
         
         log.info("Task unassigned successfully");
         return mapToResponse(updatedTask);
     }
 
     @Override
-    public TaskResponse updateTaskStatus(Long taskId, TaskStatus status) {
+    public TaskResponse updateTaskStatus(Long taskId, TaskStatus status, Long expectedVersion) {
         log.info("Updating task {} status to {}", taskId, status);
         
         Long tenantId = TenantContext.getCurrentTenant();
         Task task = taskRepository.findByIdAndTenantId(taskId, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
+        checkVersion(task, expectedVersion);
         
         TaskStatus oldStatus = task.getStatus();
+        TaskCounterService.Bucket bucketBefore = TaskCounterService.Bucket.of(task);
         
         // Validate status transition
         taskValidator.validateStatusTransition(oldStatus, status);
@@ -235,7 +559,12 @@ public class TaskServiceImpl implements TaskService {
             task.setCompletedAt(null);
         }
         
-        Task updatedTask = taskRepository.save(task);
+        Task updatedTask = saveVersioned(task, expectedVersion);
+        taskFilterIndexService.onTaskSaved(updatedTask, parseTags(updatedTask.getTags()));
+        cachedCountService.evict(countKeyPrefix(tenantId));
+        tenantChangeCounterService.recordChange(tenantId);
+        taskCounterService.recordChange(tenantId, bucketBefore, TaskCounterService.Bucket.of(updatedTask));
+        taskCacheService.evict(tenantId, List.of(taskId));
         log.info("Task status updated successfully");
         
         return mapToResponse(updatedTask);
@@ -262,7 +591,222 @@ public class TaskServiceImpl implements TaskService {
         
         return getAllTasks(filterRequest);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> getAllTasksByCursor(TaskFilterRequest filterRequest) {
+        log.info("Fetching tasks with cursor pagination");
+        
+        Long tenantId = TenantContext.getCurrentTenant();
+        String sortBy = filterRequest.getSortBy();
+        if (!CURSOR_SORT_FIELDS.contains(sortBy)) {
+            throw new BadRequestException("Cursor pagination supports sorting by " + CURSOR_SORT_FIELDS + " only");
+        }
+        Sort.Direction direction = filterRequest.getSortDirection().equalsIgnoreCase("asc")
+                ? Sort.Direction.ASC
+                : Sort.Direction.DESC;
+        
+        Specification<Task> spec = createSpecification(filterRequest, tenantId);
+        if (filterRequest.getCursor() != null && !filterRequest.getCursor().isBlank()) {
+            spec = spec.and(createKeysetSpecification(decodeCursor(filterRequest.getCursor(), sortBy, direction)));
+        }
+        
+        Sort sort = "id".equals(sortBy)
+                ? Sort.by(direction, "id")
+                : Sort.by(direction, sortBy).and(Sort.by(direction, "id"));
+        
+        // Keyset pages always start at offset 0; the cursor predicate does the skipping
+        // The cursor is built from the last row's sort value, so that column is always selected
+        Set<String> fields = resolveFields(filterRequest, sortBy);
+        Slice<TaskResponse> tasks = taskRepository.findResponseSlice(spec, PageRequest.of(0, filterRequest.getSize(), sort), fields);
+        populateCounts(tasks.getContent(), tenantId, fields);
+        
+        String nextCursor = null;
+        if (tasks.hasNext()) {
+            TaskResponse last = tasks.getContent().get(tasks.getNumberOfElements() - 1);
+            nextCursor = encodeCursor(sortBy, direction, last);
+        }
+        
+        return CursorPageResponse.<TaskResponse>builder()
+                .content(tasks.getContent())
+                .size(filterRequest.getSize())
+                .hasNext(tasks.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> getMyTasksByCursor(TaskFilterRequest filterRequest) {
+        log.info("Fetching tasks assigned to current user with cursor pagination");
+        
+        CustomUserDetails currentUser = getCurrentUserDetails();
+        filterRequest.setAssignedToId(currentUser.getId());
+        
+        return getAllTasksByCursor(filterRequest);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> getTasksCreatedByMeByCursor(TaskFilterRequest filterRequest) {
+        log.info("Fetching tasks created by current user with cursor pagination");
+        
+        CustomUserDetails currentUser = getCurrentUserDetails();
+        filterRequest.setCreatedById(currentUser.getId());
+        
+        return getAllTasksByCursor(filterRequest);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTasks(TaskFilterRequest filterRequest, ExportFormat format, OutputStream outputStream)
+            throws IOException {
+        log.info("Exporting tasks as {}", format);
+        
+        Long tenantId = TenantContext.getCurrentTenant();
+        Specification<Task> spec = createSpecification(filterRequest, tenantId);
+        Sort sort = createPageable(filterRequest).getSort();
+        
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+        }
+        
+        // Rows arrive through a forward-only cursor; counts are filled one fetch-sized batch at a time
+        long exported = 0;
+        List<TaskResponse> batch = new ArrayList<>(exportFetchSize);
+        try (Stream<TaskResponse> tasks = taskRepository.streamResponses(spec, sort, exportFetchSize)) {
+            Iterator<TaskResponse> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == exportFetchSize || !iterator.hasNext()) {
+                    populateCounts(batch, tenantId);
+                    for (TaskResponse task : batch) {
+                        writer.write(format == ExportFormat.CSV ? toCsvRow(task) : toJsonLine(task));
+                    }
+                    exported += batch.size();
+                    batch.clear();
+                }
+            }
+        }
+        writer.flush();
+        
+        log.info("Exported {} tasks", exported);
+    }
     
+    @Override
+    public BulkUpdateResponse bulkUpdateStatus(BulkStatusUpdateRequest request) {
+        TaskStatus status = request.getStatus();
+        log.info("Bulk updating task status to {}", status);
+        
+        Long tenantId = TenantContext.getCurrentTenant();
+        Map<Long, TaskStatus> targets = findBulkTargets(request.getTaskIds(), request.getFilter(), tenantId);
+        List<BulkUpdateResponse.Rejection> rejected = new ArrayList<>(missingTaskRejections(request.getTaskIds(), targets));
+        List<Long> allowedIds = allowedBySourceStatus(targets,
+                source -> taskValidator.validateStatusTransition(source, status), rejected);
+        
+        if (!allowedIds.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            List<TaskBucketRow> buckets = taskRepository.findBucketRowsByIds(allowedIds, tenantId);
+            // One UPDATE for every allowed source status; completedAt is set on completion and cleared on reopen
+            if (status == TaskStatus.COMPLETED) {
+                taskRepository.completeByIds(allowedIds, now, tenantId);
+            } else {
+                taskRepository.updateStatusByIds(allowedIds, status, now, tenantId);
+            }
+            cachedCountService.evict(countKeyPrefix(tenantId));
+            tenantChangeCounterService.recordChange(tenantId);
+            LocalDate completedDate = status == TaskStatus.COMPLETED ? now.toLocalDate() : null;
+            recordBulkChange(tenantId, buckets, bucket -> bucket.withStatus(status, completedDate));
+            taskCacheService.evict(tenantId, allowedIds);
+            taskFilterIndexService.onTasksStatusChanged(tenantId, allowedIds, status);
+        }
+        
+        log.info("Bulk status update to {}: {} updated, {} rejected", status, allowedIds.size(), rejected.size());
+        return toBulkUpdateResponse(requestedCount(request.getTaskIds(), targets), allowedIds, rejected);
+    }
+
+    @Override
+    public BulkUpdateResponse bulkAssign(BulkAssignRequest request) {
+        Long assigneeId = request.getAssigneeId();
+        log.info("Bulk assigning tasks to user {}", assigneeId);
+        
+        Long tenantId = TenantContext.getCurrentTenant();
+        User assignee = null;
+        if (assigneeId != null) {
+            assignee = userRepository.findByIdAndTenantId(assigneeId, tenantId)
+                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", assigneeId));
+            if (!assignee.getActive()) {
+                throw new BadRequestException("Cannot assign task to an inactive user");
+            }
+        }
+        
+        Map<Long, TaskStatus> targets = findBulkTargets(request.getTaskIds(), request.getFilter(), tenantId);
+        List<BulkUpdateResponse.Rejection> rejected = new ArrayList<>(missingTaskRejections(request.getTaskIds(), targets));
+        // Unassigning is allowed in any status, as for a single task
+        List<Long> allowedIds = assignee != null
+                ? allowedBySourceStatus(targets, taskValidator::validateTaskAssignment, rejected)
+                : new ArrayList<>(targets.keySet());
+        
+        if (!allowedIds.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            List<TaskBucketRow> buckets = taskRepository.findBucketRowsByIds(allowedIds, tenantId);
+            if (assignee != null) {
+                taskRepository.assignByIds(allowedIds, assignee, now, tenantId);
+            } else {
+                taskRepository.unassignByIds(allowedIds, now, tenantId);
+            }
+            cachedCountService.evict(countKeyPrefix(tenantId));
+            tenantChangeCounterService.recordChange(tenantId);
+            recordBulkChange(tenantId, buckets, bucket -> bucket.withAssignee(assigneeId));
+            taskCacheService.evict(tenantId, allowedIds);
+            taskFilterIndexService.onTasksAssigned(tenantId, allowedIds, assigneeId);
+        }
+        
+        log.info("Bulk assignment to user {}: {} updated, {} rejected", assigneeId, allowedIds.size(), rejected.size());
+        return toBulkUpdateResponse(requestedCount(request.getTaskIds(), targets), allowedIds, rejected);
+    }
+
+    /**
+     * Value of one merge patch member; explicit null stays null
+     */
+    private <T> T patchValue(JsonNode patch, String field, Class<T> type) {
+        JsonNode value = patch.get(field);
+        if (value.isNull()) {
+            return null;
+        }
+        try {
+            return objectMapper.treeToValue(value, type);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new BadRequestException("Invalid value for '" + field + "'");
+        }
+    }
+
+    /**
+     * Reject an If-Match update made against an older version of the task
+     */
+    private void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new PreconditionFailedException("Task " + task.getId() + " is at version " + task.getVersion()
+                    + ", not " + expectedVersion + "; reload it and retry");
+        }
+    }
+
+    /**
+     * Flush so the response carries the incremented version. A commit made since the task was read
+     * fails the versioned UPDATE here; with If-Match that is a failed precondition as well.
+     */
+    private Task saveVersioned(Task task, Long expectedVersion) {
+        try {
+            return taskRepository.saveAndFlush(task);
+        } catch (OptimisticLockingFailureException e) {
+            if (expectedVersion != null) {
+                throw new PreconditionFailedException("Task " + task.getId() + " was modified concurrently; reload it and retry");
+            }
+            throw e;
+        }
+    }
+
     /**
      * Get current authenticated user details
      */
@@ -294,7 +838,20 @@ public class TaskServiceImpl implements TaskService {
             predicates.add(criteriaBuilder.isNull(root.get("deletedAt")));
             
             // Search in title and description
-            if (filter.getSearch() != null && !filter.getSearch().trim().isEmpty()) {
+            if (isFullTextSearch(filter)) {
+                Expression<String> terms = criteriaBuilder.literal(filter.getSearch().trim());
+                predicates.add(criteriaBuilder.isTrue(criteriaBuilder.function(
+                        FullTextSearchFunctionContributor.TASK_SEARCH_MATCH, Boolean.class,
+                        root.get("title"), root.get("description"), terms)));
+                
+                // Rank ordering only applies to the row query, never to the count query
+                if (RELEVANCE_SORT.equals(filter.getSortBy()) && !Long.class.equals(query.getResultType())) {
+                    Expression<Double> rank = criteriaBuilder.function(
+                            FullTextSearchFunctionContributor.TASK_SEARCH_RANK, Double.class,
+                            root.get("title"), root.get("description"), terms);
+                    query.orderBy(criteriaBuilder.desc(rank), criteriaBuilder.desc(root.get("id")));
+                }
+            } else if (filter.getSearch() != null && !filter.getSearch().trim().isEmpty()) {
                 String searchPattern = "%" + filter.getSearch().toLowerCase() + "%";
                 Predicate titleMatch = criteriaBuilder.like(
                         criteriaBuilder.lower(root.get("title")), searchPattern);
@@ -331,10 +888,17 @@ public class TaskServiceImpl implements TaskService {
                 predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("dueDate"), filter.getDueDateTo()));
             }
             
-            // Filter by tags
-            if (filter.getTags() != null && !filter.getTags().trim().isEmpty()) {
-                String tagPattern = "%" + filter.getTags().toLowerCase() + "%";
-                predicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get("tags")), tagPattern));
+            // Filter by tags (exact match on any of the given tags, via the task_tags index)
+            Set<String> tags = parseTags(filter.getTags());
+            if (!tags.isEmpty()) {
+                Subquery<Long> tagged = query.subquery(Long.class);
+                Root<TaskTag> taskTag = tagged.from(TaskTag.class);
+                tagged.select(taskTag.get("task").get("id"))
+                        .where(
+                                criteriaBuilder.equal(taskTag.get("tenant").get("id"), tenantId),
+                                taskTag.get("tag").in(tags),
+                                criteriaBuilder.equal(taskTag.get("task").get("id"), root.get("id")));
+                predicates.add(criteriaBuilder.exists(tagged));
             }
             
             // Filter overdue tasks
@@ -356,10 +920,258 @@ public class TaskServiceImpl implements TaskService {
         };
     }
 
+    /**
+     * Replace the task_tags rows of a task with the tags currently on the task
+     */
+    private void syncTags(Task task) {
+        taskTagRepository.deleteByTaskId(task.getId());
+        
+        List<TaskTag> taskTags = parseTags(task.getTags()).stream()
+                .map(tag -> TaskTag.builder()
+                        .tenant(task.getTenant())
+                        .task(task)
+                        .tag(tag)
+                        .build())
+                .toList();
+        taskTagRepository.saveAll(taskTags);
+    }
+
+    /**
+     * Split comma-separated tags into a normalized (trimmed, lower-case, distinct) set
+     */
+    static Set<String> parseTags(String tags) {
+        if (tags == null || tags.trim().isEmpty()) {
+            return Set.of();
+        }
+        
+        return Arrays.stream(tags.split(","))
+                .map(tag -> tag.trim().toLowerCase(Locale.ROOT))
+                .filter(tag -> !tag.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Whether the search term is matched with the PostgreSQL full-text index
+     */
+    private boolean isFullTextSearch(TaskFilterRequest filter) {
+        return fullTextSearchEnabled && filter.getSearch() != null && !filter.getSearch().trim().isEmpty();
+    }
+
+    /**
+     * Page of tasks whose total comes from the count cache; the exact COUNT only runs on a cache miss
+     */
+    private Page<TaskResponse> getTasksWithEstimatedTotal(TaskFilterRequest filter, Long tenantId,
+                                                          Specification<Task> spec, Pageable pageable,
+                                                          Set<String> fields) {
+        Slice<TaskResponse> tasks = taskRepository.findResponseSlice(spec, pageable, fields);
+        populateCounts(tasks.getContent(), tenantId, fields);
+
+        long seen = pageable.getOffset() + tasks.getNumberOfElements();
+        if (!tasks.hasNext()) {
+            // Last page: the total is known exactly without counting
+            return new PageImpl<>(tasks.getContent(), pageable, seen);
+        }
+
+        long estimated = cachedCountService.getCount(countKey(filter, tenantId), () -> taskRepository.count(spec));
+        // A stale count must still leave room for the next page we know exists
+        return new PageImpl<>(tasks.getContent(), pageable, Math.max(estimated, seen + 1));
+    }
+
+    /**
+     * Load the responses for a page of task ids, keeping the order of the ids
+     */
+    private Page<TaskResponse> getTasksByIds(Page<Long> ids, Long tenantId, Set<String> fields) {
+        if (ids.getContent().isEmpty()) {
+            return new PageImpl<>(List.of(), ids.getPageable(), ids.getTotalElements());
+        }
+
+        Map<Long, TaskResponse> byId = findResponsesByIds(ids.getContent(), tenantId, fields);
+        List<TaskResponse> content = ids.getContent().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, ids.getPageable(), ids.getTotalElements());
+    }
+
+    /**
+     * Live tasks of the tenant with the given ids, keyed by id: one projection query joining creator and assignee,
+     * plus the grouped count queries. Ids that do not match are simply absent.
+     */
+    private Map<Long, TaskResponse> findResponsesByIds(List<Long> ids, Long tenantId, Set<String> fields) {
+        Specification<Task> byIds = (root, query, cb) -> cb.and(
+                cb.equal(root.get("tenant").get("id"), tenantId),
+                cb.isNull(root.get("deletedAt")),
+                root.get("id").in(ids));
+        List<TaskResponse> responses = taskRepository
+                .findResponseSlice(byIds, PageRequest.of(0, ids.size()), fields)
+                .getContent();
+        populateCounts(responses, tenantId, fields);
+        return responses.stream()
+                .collect(Collectors.toMap(TaskResponse::getId, response -> response));
+    }
+
+    private String toJsonLine(TaskResponse task) throws IOException {
+        return objectMapper.writeValueAsString(task) + "\n";
+    }
+
+    private String toCsvRow(TaskResponse task) {
+        TaskResponse.UserSummary creator = task.getCreatedBy();
+        TaskResponse.UserSummary assignee = task.getAssignedTo();
+        return String.join(",",
+                csvValue(task.getId()),
+                csvValue(task.getTitle()),
+                csvValue(task.getDescription()),
+                csvValue(task.getStatus()),
+                csvValue(task.getPriority()),
+                csvValue(task.getDueDate()),
+                csvValue(task.getTags()),
+                csvValue(task.getCompletedAt()),
+                csvValue(task.getCreatedAt()),
+                csvValue(task.getUpdatedAt()),
+                csvValue(creator != null ? creator.getId() : null),
+                csvValue(creator != null ? creator.getEmail() : null),
+                csvValue(assignee != null ? assignee.getId() : null),
+                csvValue(assignee != null ? assignee.getEmail() : null),
+                csvValue(task.getCommentCount()),
+                csvValue(task.getAttachmentCount())) + "\r\n";
+    }
+
+    /**
+     * RFC 4180 field: quoted when it contains a separator, quote or line break
+     */
+    private String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
+    /**
+     * Lock the live tasks a bulk request targets (explicit ids or a filter) and return their current statuses
+     */
+    private Map<Long, TaskStatus> findBulkTargets(List<Long> taskIds, TaskFilterRequest filter, Long tenantId) {
+        boolean byIds = taskIds != null && !taskIds.isEmpty();
+        if (byIds == (filter != null)) {
+            throw new BadRequestException("Provide either taskIds or filter");
+        }
+        
+        if (byIds) {
+            Set<Long> ids = new LinkedHashSet<>(taskIds);
+            if (ids.size() > bulkMaxTasks) {
+                throw new BadRequestException("A bulk update accepts at most " + bulkMaxTasks + " tasks");
+            }
+            Specification<Task> spec = createSpecification(new TaskFilterRequest(), tenantId)
+                    .and((root, query, criteriaBuilder) -> root.get("id").in(ids));
+            return taskRepository.findStatusesForUpdate(spec, ids.size());
+        }
+        
+        // One row over the limit tells us the filter matches too many tasks
+        Map<Long, TaskStatus> targets = taskRepository.findStatusesForUpdate(
+                createSpecification(filter, tenantId), bulkMaxTasks + 1);
+        if (targets.size() > bulkMaxTasks) {
+            throw new BadRequestException("Filter matches more than " + bulkMaxTasks
+                    + " tasks; narrow it down or split the update");
+        }
+        return targets;
+    }
+
+    /**
+     * Validate once per distinct source status (the rules only depend on it) and return the ids that passed;
+     * every task of a failing status is rejected with the validator's message
+     */
+    private List<Long> allowedBySourceStatus(Map<Long, TaskStatus> targets, Consumer<TaskStatus> validation,
+            List<BulkUpdateResponse.Rejection> rejected) {
+        Map<TaskStatus, List<Long>> idsByStatus = new EnumMap<>(TaskStatus.class);
+        targets.forEach((id, status) -> idsByStatus.computeIfAbsent(status, s -> new ArrayList<>()).add(id));
+        
+        List<Long> allowedIds = new ArrayList<>();
+        idsByStatus.forEach((status, ids) -> {
+            try {
+                validation.accept(status);
+                allowedIds.addAll(ids);
+            } catch (BadRequestException e) {
+                ids.forEach(id -> rejected.add(new BulkUpdateResponse.Rejection(id, e.getMessage())));
+            }
+        });
+        return allowedIds;
+    }
+
+    /**
+     * Move each task read before a bulk update to the bucket the update puts it in
+     */
+    private void recordBulkChange(Long tenantId, List<TaskBucketRow> buckets,
+            UnaryOperator<TaskCounterService.Bucket> change) {
+        for (TaskBucketRow row : buckets) {
+            TaskCounterService.Bucket before = TaskCounterService.Bucket.of(row);
+            taskCounterService.recordChange(tenantId, before, change.apply(before));
+        }
+    }
+
+    private List<BulkUpdateResponse.Rejection> missingTaskRejections(List<Long> taskIds, Map<Long, TaskStatus> targets) {
+        if (taskIds == null) {
+            return List.of();
+        }
+        return taskIds.stream()
+                .distinct()
+                .filter(id -> !targets.containsKey(id))
+                .map(id -> new BulkUpdateResponse.Rejection(id, "Task not found"))
+                .toList();
+    }
+
+    private int requestedCount(List<Long> taskIds, Map<Long, TaskStatus> targets) {
+        return taskIds != null && !taskIds.isEmpty() ? (int) taskIds.stream().distinct().count() : targets.size();
+    }
+
+    private BulkUpdateResponse toBulkUpdateResponse(int requestedCount, List<Long> updatedIds,
+            List<BulkUpdateResponse.Rejection> rejected) {
+        return BulkUpdateResponse.builder()
+                .requestedCount(requestedCount)
+                .updatedCount(updatedIds.size())
+                .rejectedCount(rejected.size())
+                .updatedIds(updatedIds)
+                .rejected(rejected)
+                .build();
+    }
+
+    /**
+     * Prefix shared by every cached task count of a tenant, for eviction on writes
+     */
+    static String countKeyPrefix(Long tenantId) {
+        return "tasks:" + tenantId + ":";
+    }
+
+    /**
+     * Cache key covering every filter that changes the row count; paging, sorting and cursor do not
+     */
+    private String countKey(TaskFilterRequest filter, Long tenantId) {
+        return countKeyPrefix(tenantId) + String.join("|",
+                String.valueOf(filter.getSearch()),
+                String.valueOf(filter.getStatuses()),
+                String.valueOf(filter.getPriorities()),
+                String.valueOf(filter.getAssignedToId()),
+                String.valueOf(filter.getCreatedById()),
+                String.valueOf(filter.getDueDateFrom()),
+                String.valueOf(filter.getDueDateTo()),
+                String.valueOf(filter.getTags()),
+                String.valueOf(filter.getOverdue()),
+                String.valueOf(filter.getCompleted()));
+    }
+
     /**
      * Create Pageable with sorting
      */
     private Pageable createPageable(TaskFilterRequest filter) {
+        if (RELEVANCE_SORT.equals(filter.getSortBy())) {
+            // Relevance order is applied by the specification; without a ranked search use newest first
+            return isFullTextSearch(filter)
+                    ? PageRequest.of(filter.getPage(), filter.getSize())
+                    : PageRequest.of(filter.getPage(), filter.getSize(), Sort.by(Sort.Direction.DESC, "createdAt"));
+        }
+        
         Sort.Direction direction = filter.getSortDirection().equalsIgnoreCase("asc") 
                 ? Sort.Direction.ASC 
                 : Sort.Direction.DESC;
@@ -370,9 +1182,148 @@ public class TaskServiceImpl implements TaskService {
     }
 
     /**
-     * Map Task entity to TaskResponse DTO
+     * Create the keyset predicate selecting rows strictly after the cursor position
+     */
+    private Specification<Task> createKeysetSpecification(KeysetCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            boolean ascending = cursor.direction() == Sort.Direction.ASC;
+            return switch (cursor.sortBy()) {
+                case "createdAt" -> keysetPredicate(criteriaBuilder, root, "createdAt",
+                        LocalDateTime.parse(cursor.value()), cursor.id(), ascending);
+                case "title" -> keysetPredicate(criteriaBuilder, root, "title",
+                        cursor.value(), cursor.id(), ascending);
+                default -> ascending
+                        ? criteriaBuilder.greaterThan(root.get("id"), cursor.id())
+                        : criteriaBuilder.lessThan(root.get("id"), cursor.id());
+            };
+        };
+    }
+
+    /**
+     * (key, id) > (value, lastId) for ascending order, (key, id) < (value, lastId) for descending
+     */
+    private static <Y extends Comparable<? super Y>> Predicate keysetPredicate(
+            CriteriaBuilder cb, Root<Task> root, String field, Y value, Long lastId, boolean ascending) {
+        Path<Y> key = root.get(field);
+        Path<Long> id = root.get("id");
+        Predicate keyBeyond = ascending ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+        Predicate idBeyond = ascending ? cb.greaterThan(id, lastId) : cb.lessThan(id, lastId);
+        return cb.or(keyBeyond, cb.and(cb.equal(key, value), idBeyond));
+    }
+
+    /**
+     * Encode the (sortKey, id) position of the last row into an opaque cursor
+     */
+    private String encodeCursor(String sortBy, Sort.Direction direction, TaskResponse last) {
+        String value = switch (sortBy) {
+            case "createdAt" -> last.getCreatedAt().toString();
+            case "title" -> last.getTitle();
+            default -> String.valueOf(last.getId());
+        };
+        String raw = sortBy + "|" + direction.name() + "|" + last.getId() + "|" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor and check it was issued for the same sort order
+     */
+    private KeysetCursor decodeCursor(String cursor, String sortBy, Sort.Direction direction) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4 || !parts[0].equals(sortBy) || !parts[1].equals(direction.name())) {
+                throw new BadRequestException("Cursor does not match the requested sort order");
+            }
+            KeysetCursor keysetCursor = new KeysetCursor(parts[0], direction, parts[3], Long.parseLong(parts[2]));
+            if ("createdAt".equals(sortBy)) {
+                LocalDateTime.parse(keysetCursor.value());
+            }
+            return keysetCursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid pagination cursor");
+        }
+    }
+
+    /**
+     * Decoded cursor position
+     */
+    private record KeysetCursor(String sortBy, Sort.Direction direction, String value, Long id) {
+    }
+
+    /**
+     * Map a single Task entity to TaskResponse DTO
      */
     private TaskResponse mapToResponse(Task task) {
+        Long tenantId = task.getTenant().getId();
+        return mapToResponse(task,
+                commentRepository.countByTaskIdAndDeletedAtIsNull(task.getId(), tenantId),
+                attachmentRepository.countByTaskIdAndDeletedAtIsNull(task.getId(), tenantId));
+    }
+
+    /**
+     * Fill comment and attachment counts for a page of responses
+     * with one grouped query each instead of initializing every task's collections
+     */
+    private void populateCounts(List<TaskResponse> responses, Long tenantId) {
+        populateCounts(responses, tenantId, null);
+    }
+
+    /**
+     * Fill comment and attachment counts, running each count query only if that count is among the fields
+     */
+    private void populateCounts(List<TaskResponse> responses, Long tenantId, Set<String> fields) {
+        boolean comments = fields == null || fields.contains("commentCount");
+        boolean attachments = fields == null || fields.contains("attachmentCount");
+        if (responses.isEmpty() || !comments && !attachments) {
+            return;
+        }
+        
+        List<Long> taskIds = responses.stream().map(TaskResponse::getId).toList();
+        Map<Long, Long> commentCounts = comments
+                ? toCountMap(commentRepository.countByTaskIds(taskIds, tenantId)) : Map.of();
+        Map<Long, Long> attachmentCounts = attachments
+                ? toCountMap(attachmentRepository.countByTaskIds(taskIds, tenantId)) : Map.of();
+        
+        responses.forEach(response -> {
+            if (comments) {
+                response.setCommentCount(commentCounts.getOrDefault(response.getId(), 0L).intValue());
+            }
+            if (attachments) {
+                response.setAttachmentCount(attachmentCounts.getOrDefault(response.getId(), 0L).intValue());
+            }
+        });
+    }
+
+    /**
+     * Validated sparse fieldset of the request plus any fields the service itself needs, or null for all fields
+     */
+    private Set<String> resolveFields(TaskFilterRequest filter, String... requiredFields) {
+        if (filter.getFields() == null || filter.getFields().isEmpty()) {
+            return null;
+        }
+        List<String> unknown = filter.getFields().stream()
+                .filter(field -> !TaskResponse.FIELDS.contains(field))
+                .sorted()
+                .toList();
+        if (!unknown.isEmpty()) {
+            throw new BadRequestException("Unknown fields: " + String.join(", ", unknown)
+                    + ". Valid fields: " + TaskResponse.FIELDS.stream().sorted().collect(Collectors.joining(", ")));
+        }
+        
+        Set<String> fields = new LinkedHashSet<>(filter.getFields());
+        fields.add("id");
+        fields.addAll(Arrays.asList(requiredFields));
+        return fields;
+    }
+
+    private Map<Long, Long> toCountMap(List<TaskIdCount> counts) {
+        return counts.stream().collect(Collectors.toMap(TaskIdCount::getTaskId, TaskIdCount::getCount));
+    }
+
+    /**
+     * Map Task entity to TaskResponse DTO
+     */
+    private TaskResponse mapToResponse(Task task, long commentCount, long attachmentCount) {
         return TaskResponse.builder()
                 .id(task.getId())
                 .title(task.getTitle())
@@ -384,10 +1335,11 @@ public class TaskServiceImpl implements TaskService {
                 .assignedTo(task.getAssignedTo() != null ? mapUserToSummary(task.getAssignedTo()) : null)
                 .tags(task.getTags())
                 .completedAt(task.getCompletedAt())
-                .commentCount(task.getComments() != null ? task.getComments().size() : 0)
-                .attachmentCount(task.getAttachments() != null ? task.getAttachments().size() : 0)
+                .commentCount((int) commentCount)
+                .attachmentCount((int) attachmentCount)
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
+                .version(task.getVersion())
                 .build();
     }
 
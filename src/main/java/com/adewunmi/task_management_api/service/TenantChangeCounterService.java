@@ -0,0 +1,19 @@
+package com.adewunmi.task_management_api.service;
+
+/**
+ * Service interface for the per-tenant change counter
+ * Every committed change to a tenant's tasks (or anything a task response shows) advances the counter,
+ * so an unchanged counter proves a cached list is still current
+ */
+public interface TenantChangeCounterService {
+
+    /**
+     * Current counter value of the tenant
+     */
+    long getChangeCount(Long tenantId);
+
+    /**
+     * Advance the tenant's counter once the surrounding transaction commits (at most once per transaction)
+     */
+    void recordChange(Long tenantId);
+}
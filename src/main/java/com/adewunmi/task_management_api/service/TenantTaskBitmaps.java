@@ -0,0 +1,253 @@
+package com.adewunmi.task_management_api.service;
+
+import com.adewunmi.task_management_api.enums.TaskPriority;
+import com.adewunmi.task_management_api.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory filter index of one tenant's live tasks.
+ * Each task gets a dense ordinal; every filter value (status, priority, assignee, creator, tag, due day)
+ * maps to a bitmap of ordinals, so a filter is answered by AND/OR-ing bitmaps.
+ * Not thread-safe: callers synchronize on the instance.
+ */
+final class TenantTaskBitmaps {
+
+    /**
+     * Indexed attributes of a task; also kept per ordinal to clear old bits and to sort matches
+     */
+    record Entry(Long id, TaskStatus status, TaskPriority priority, Long assigneeId, Long creatorId,
+                 LocalDateTime dueDate, LocalDateTime createdAt, Set<String> tags) {
+    }
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+
+    private final Map<TaskStatus, BitSet> byStatus = new EnumMap<>(TaskStatus.class);
+    private final Map<TaskPriority, BitSet> byPriority = new EnumMap<>(TaskPriority.class);
+    private final Map<Long, BitSet> byAssignee = new HashMap<>();
+    private final Map<Long, BitSet> byCreator = new HashMap<>();
+    private final Map<String, BitSet> byTag = new HashMap<>();
+    private final NavigableMap<LocalDate, BitSet> byDueDay = new TreeMap<>();
+
+    private long builtAt = -1;
+
+    boolean isBuilt() {
+        return builtAt >= 0;
+    }
+
+    long getBuiltAt() {
+        return builtAt;
+    }
+
+    void markBuilt(long timestamp) {
+        this.builtAt = timestamp;
+    }
+
+    int size() {
+        return ordinals.size();
+    }
+
+    void clear() {
+        entries.clear();
+        ordinals.clear();
+        freeOrdinals.clear();
+        live.clear();
+        byStatus.clear();
+        byPriority.clear();
+        byAssignee.clear();
+        byCreator.clear();
+        byTag.clear();
+        byDueDay.clear();
+        builtAt = -1;
+    }
+
+    /**
+     * Insert or replace the indexed state of a task
+     */
+    void upsert(Entry entry) {
+        Integer ordinal = ordinals.get(entry.id());
+        if (ordinal != null) {
+            index(ordinal, entries.get(ordinal), false);
+        } else {
+            ordinal = freeOrdinals.isEmpty() ? entries.size() : freeOrdinals.pop();
+            if (ordinal == entries.size()) {
+                entries.add(null);
+            }
+            ordinals.put(entry.id(), ordinal);
+        }
+        entries.set(ordinal, entry);
+        index(ordinal, entry, true);
+    }
+
+    /**
+     * Replace the indexed state of the given tasks that are present; unknown ids are ignored
+     */
+    void update(Collection<Long> taskIds, UnaryOperator<Entry> change) {
+        for (Long taskId : taskIds) {
+            Integer ordinal = ordinals.get(taskId);
+            if (ordinal != null) {
+                upsert(change.apply(entries.get(ordinal)));
+            }
+        }
+    }
+
+    void remove(Long taskId) {
+        Integer ordinal = ordinals.remove(taskId);
+        if (ordinal == null) {
+            return;
+        }
+        index(ordinal, entries.get(ordinal), false);
+        entries.set(ordinal, null);
+        freeOrdinals.push(ordinal);
+    }
+
+    BitSet all() {
+        return (BitSet) live.clone();
+    }
+
+    BitSet withStatus(Collection<TaskStatus> statuses) {
+        return union(byStatus, statuses);
+    }
+
+    BitSet withPriority(Collection<TaskPriority> priorities) {
+        return union(byPriority, priorities);
+    }
+
+    BitSet withAssignee(Long assigneeId) {
+        return union(byAssignee, List.of(assigneeId));
+    }
+
+    BitSet withCreator(Long creatorId) {
+        return union(byCreator, List.of(creatorId));
+    }
+
+    BitSet withAnyTag(Collection<String> tags) {
+        return union(byTag, tags);
+    }
+
+    /**
+     * Tasks due in the given range; whole days come straight from the day bitmaps,
+     * the two boundary days are checked against the exact due date. Tasks without a due date never match.
+     */
+    BitSet dueBetween(LocalDateTime from, LocalDateTime to, boolean toInclusive) {
+        LocalDate fromDay = from != null ? from.toLocalDate() : null;
+        LocalDate toDay = to != null ? to.toLocalDate() : null;
+
+        NavigableMap<LocalDate, BitSet> days = byDueDay;
+        if (fromDay != null) {
+            days = days.tailMap(fromDay, true);
+        }
+        if (toDay != null) {
+            days = days.headMap(toDay, true);
+        }
+
+        BitSet result = new BitSet();
+        for (Map.Entry<LocalDate, BitSet> day : days.entrySet()) {
+            boolean inside = (fromDay == null || day.getKey().isAfter(fromDay))
+                    && (toDay == null || day.getKey().isBefore(toDay));
+            if (inside) {
+                result.or(day.getValue());
+                continue;
+            }
+            BitSet bits = day.getValue();
+            for (int ordinal = bits.nextSetBit(0); ordinal >= 0; ordinal = bits.nextSetBit(ordinal + 1)) {
+                LocalDateTime dueDate = entries.get(ordinal).dueDate();
+                boolean afterFrom = from == null || !dueDate.isBefore(from);
+                boolean beforeTo = to == null || (toInclusive ? !dueDate.isAfter(to) : dueDate.isBefore(to));
+                if (afterFrom && beforeTo) {
+                    result.set(ordinal);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Task ids of one page of the matches in the given order, keeping only offset + limit candidates in memory
+     */
+    List<Long> page(BitSet matches, Comparator<Entry> order, long offset, int limit) {
+        long keep = offset + limit;
+        if (keep > Integer.MAX_VALUE || limit <= 0) {
+            return List.of();
+        }
+
+        // Max-heap on the requested order: the head is the worst candidate kept so far
+        PriorityQueue<Entry> best = new PriorityQueue<>((int) Math.min(keep, 1024) + 1, order.reversed());
+        for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+            Entry entry = entries.get(ordinal);
+            if (best.size() < keep) {
+                best.add(entry);
+            } else if (order.compare(entry, best.peek()) < 0) {
+                best.poll();
+                best.add(entry);
+            }
+        }
+
+        List<Entry> sorted = new ArrayList<>(best);
+        sorted.sort(order);
+        return sorted.stream()
+                .skip(offset)
+                .map(Entry::id)
+                .toList();
+    }
+
+    private void index(int ordinal, Entry entry, boolean set) {
+        live.set(ordinal, set);
+        flip(byStatus, entry.status(), ordinal, set);
+        flip(byPriority, entry.priority(), ordinal, set);
+        if (entry.assigneeId() != null) {
+            flip(byAssignee, entry.assigneeId(), ordinal, set);
+        }
+        flip(byCreator, entry.creatorId(), ordinal, set);
+        for (String tag : entry.tags()) {
+            flip(byTag, tag, ordinal, set);
+        }
+        if (entry.dueDate() != null) {
+            flip(byDueDay, entry.dueDate().toLocalDate(), ordinal, set);
+        }
+    }
+
+    private static <K> void flip(Map<K, BitSet> bitmaps, K key, int ordinal, boolean set) {
+        if (set) {
+            bitmaps.computeIfAbsent(key, k -> new BitSet()).set(ordinal);
+            return;
+        }
+        BitSet bits = bitmaps.get(key);
+        if (bits != null) {
+            bits.clear(ordinal);
+            if (bits.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private static <K> BitSet union(Map<K, BitSet> bitmaps, Collection<K> keys) {
+        BitSet result = new BitSet();
+        for (K key : keys) {
+            BitSet bits = bitmaps.get(key);
+            if (bits != null) {
+                result.or(bits);
+            }
+        }
+        return result;
+    }
+}
@@ -42,6 +42,10 @@ public class UserServiceImpl implements UserService {
     private final RoleRepository roleRepository;
     private final TaskRepository taskRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TenantChangeCounterService tenantChangeCounterService;
+    private final EntityCacheService entityCacheService;
+    private final TaskCacheService taskCacheService;
+    private final TaskCounterService taskCounterService;
 
     @Override
     @Transactional(readOnly = true)
@@ -66,6 +70,10 @@ public class UserServiceImpl implements UserService {
         updateUserFields(user, request);
         
         User updatedUser = userRepository.save(user);
+        // Names and email appear in every task response that references the user
+        tenantChangeCounterService.recordChange(updatedUser.getTenant().getId());
+        entityCacheService.evictUser(updatedUser.getId());
+        taskCacheService.evictUser(updatedUser.getTenant().getId(), updatedUser.getId());
         log.info("User profile updated successfully for user ID: {}", updatedUser.getId());
         
         return mapToResponse(updatedUser);
@@ -95,6 +103,7 @@ public class UserServiceImpl implements UserService {
         // Update password
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(user);
+        entityCacheService.evictUser(user.getId());
         
         log.info("Password changed successfully for user ID: {}", user.getId());
     }
@@ -143,6 +152,7 @@ public class UserServiceImpl implements UserService {
         
         user.setActive(true);
         User updatedUser = userRepository.save(user);
+        entityCacheService.evictUser(userId);
         
         log.info("User activated successfully: {}", userId);
         return mapToResponse(updatedUser);
@@ -164,6 +174,8 @@ public class UserServiceImpl implements UserService {
         
         user.setActive(false);
         User updatedUser = userRepository.save(user);
+        // Other instances would otherwise keep authenticating the user from their cached copy
+        entityCacheService.evictUser(userId);
         
         log.info("User deactivated successfully: {}", userId);
         return mapToResponse(updatedUser);
@@ -184,6 +196,7 @@ public class UserServiceImpl implements UserService {
         }
         
         userRepository.delete(user);
+        entityCacheService.evictUser(userId);
         log.info("User deleted successfully: {}", userId);
     }
 
@@ -206,6 +219,7 @@ public class UserServiceImpl implements UserService {
         }
         
         User updatedUser = userRepository.save(user);
+        entityCacheService.evictUser(userId);
         log.info("User roles updated successfully for user ID: {}", userId);
         
         return mapToResponse(updatedUser);
@@ -221,11 +235,11 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
         
         Long totalTasksCreated = taskRepository.countByCreatedByIdAndTenantIdAndDeletedAtIsNull(userId, tenantId);
-        Long totalTasksAssigned = taskRepository.countByAssignedToIdAndTenantIdAndDeletedAtIsNull(userId, tenantId);
-        Long completedTasks = taskRepository.countByAssignedToIdAndStatusAndTenantIdAndDeletedAtIsNull(
-                userId, TaskStatus.COMPLETED, tenantId);
-        Long pendingTasks = taskRepository.countByAssignedToIdAndStatusInAndTenantIdAndDeletedAtIsNull(
-                userId, Set.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS, TaskStatus.IN_REVIEW), tenantId);
+        // Assigned task counts come from the maintained counters
+        TaskCounts assigned = taskCounterService.getCounts(tenantId, userId);
+        Long totalTasksAssigned = assigned.total();
+        Long completedTasks = assigned.count(TaskStatus.COMPLETED);
+        Long pendingTasks = assigned.count(TaskStatus.TODO, TaskStatus.IN_PROGRESS, TaskStatus.IN_REVIEW);
         Long overdueTasks = taskRepository.countByAssignedToIdAndDueDateBeforeAndStatusNotAndTenantIdAndDeletedAtIsNull(
                 userId, LocalDateTime.now(), TaskStatus.COMPLETED, tenantId);
         
@@ -80,35 +80,48 @@ public class TaskValidator {
      * Validate basic task fields
      */
     private void validateBasicFields(TaskRequest request) {
-        if (request.getTitle() == null || request.getTitle().trim().isEmpty()) {
-            throw new BadRequestException("Task title cannot be empty");
+        validateTitle(request.getTitle());
+        validateDescription(request.getDescription());
+
+        if (request.getStatus() == null) {
+            throw new BadRequestException("Task status is required");
         }
 
-        if (request.getTitle().length() < 3) {
-            throw new BadRequestException("Task title must be at least 3 characters long");
+        if (request.getPriority() == null) {
+            throw new BadRequestException("Task priority is required");
         }
+    }
 
-        if (request.getTitle().length() > 200) {
-            throw new BadRequestException("Task title cannot exceed 200 characters");
+    /**
+     * Validate task title
+     */
+    public void validateTitle(String title) {
+        if (title == null || title.trim().isEmpty()) {
+            throw new BadRequestException("Task title cannot be empty");
         }
 
-        if (request.getDescription() != null && request.getDescription().length() > 5000) {
-            throw new BadRequestException("Task description cannot exceed 5000 characters");
+        if (title.length() < 3) {
+            throw new BadRequestException("Task title must be at least 3 characters long");
         }
 
-        if (request.getStatus() == null) {
-            throw new BadRequestException("Task status is required");
+        if (title.length() > 200) {
+            throw new BadRequestException("Task title cannot exceed 200 characters");
         }
+    }
 
-        if (request.getPriority() == null) {
-            throw new BadRequestException("Task priority is required");
+    /**
+     * Validate task description
+     */
+    public void validateDescription(String description) {
+        if (description != null && description.length() > 5000) {
+            throw new BadRequestException("Task description cannot exceed 5000 characters");
         }
     }
 
     /**
      * Validate due date
      */
-    private void validateDueDate(LocalDateTime dueDate) {
+    public void validateDueDate(LocalDateTime dueDate) {
         if (dueDate != null && dueDate.isBefore(LocalDateTime.now().minusDays(1))) {
             throw new BadRequestException("Due date cannot be in the past");
         }
@@ -117,7 +130,7 @@ public class TaskValidator {
     /**
      * Validate tags format
      */
-    private void validateTags(String tags) {
+    public void validateTags(String tags) {
         if (tags != null && !tags.trim().isEmpty()) {
             if (tags.length() > 500) {
                 throw new BadRequestException("Tags cannot exceed 500 characters");
@@ -131,6 +144,9 @@ public class TaskValidator {
                     throw new BadRequestException(
                             "Invalid tag format: '" + trimmedTag + "'. Tags must contain only letters, numbers, hyphens, and underscores");
                 }
+                if (trimmedTag.length() > 100) {
+                    throw new BadRequestException("Tag '" + trimmedTag + "' cannot exceed 100 characters");
+                }
             }
         }
     }
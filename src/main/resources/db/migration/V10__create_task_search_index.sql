@@ -0,0 +1,6 @@
+-- Full-text search index for task title (weight A) and description (weight B)
+-- Expression must match FullTextSearchFunctionContributor.TASK_SEARCH_VECTOR
+CREATE INDEX idx_tasks_search ON tasks USING GIN (
+    (setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+     setweight(to_tsvector('english', coalesce(description, '')), 'B'))
+);
@@ -0,0 +1,12 @@
+-- Create task_tags table (normalized copy of tasks.tags)
+CREATE TABLE task_tags (
+    id BIGSERIAL PRIMARY KEY,
+    tenant_id BIGINT NOT NULL,
+    task_id BIGINT NOT NULL,
+    tag VARCHAR(100) NOT NULL,
+    CONSTRAINT fk_task_tags_tenant FOREIGN KEY (tenant_id) REFERENCES tenants(id) ON DELETE CASCADE,
+    CONSTRAINT fk_task_tags_task FOREIGN KEY (task_id) REFERENCES tasks(id) ON DELETE CASCADE,
+    CONSTRAINT uk_task_tags_task_tag UNIQUE (task_id, tag)
+);
+-- Create indexes
+CREATE INDEX idx_task_tags_tenant_tag ON task_tags(tenant_id, tag, task_id);
@@ -0,0 +1,7 @@
+-- Backfill task_tags from the comma-separated tasks.tags column
+INSERT INTO task_tags (tenant_id, task_id, tag)
+SELECT DISTINCT t.tenant_id, t.id, left(lower(trim(raw.tag)), 100)
+FROM tasks t
+CROSS JOIN LATERAL unnest(string_to_array(t.tags, ',')) AS raw(tag)
+WHERE t.tags IS NOT NULL
+    AND trim(raw.tag) <> '';
@@ -0,0 +1,19 @@
+-- Composite partial indexes matching the tenant scoped, soft-delete filtered query shapes
+CREATE INDEX idx_tasks_tenant_status ON tasks(tenant_id, status)
+WHERE deleted_at IS NULL;
+CREATE INDEX idx_tasks_tenant_assigned_status ON tasks(tenant_id, assigned_to, status)
+WHERE deleted_at IS NULL;
+CREATE INDEX idx_tasks_tenant_created_by ON tasks(tenant_id, created_by)
+WHERE deleted_at IS NULL;
+CREATE INDEX idx_tasks_tenant_due_date ON tasks(tenant_id, due_date)
+WHERE deleted_at IS NULL;
+CREATE INDEX idx_task_comments_task_created_at ON task_comments(task_id, created_at)
+WHERE deleted_at IS NULL;
+CREATE INDEX idx_task_attachments_task_created_at ON task_attachments(task_id, created_at)
+WHERE deleted_at IS NULL;
+CREATE INDEX idx_audit_logs_tenant_timestamp ON audit_logs(tenant_id, timestamp);
+CREATE INDEX idx_audit_logs_tenant_user_timestamp ON audit_logs(tenant_id, user_id, timestamp);
+CREATE INDEX idx_audit_logs_tenant_action_timestamp ON audit_logs(tenant_id, action, timestamp);
+-- Superseded: global low-cardinality indexes never used without tenant_id
+DROP INDEX IF EXISTS idx_tasks_status;
+DROP INDEX IF EXISTS idx_tasks_priority;
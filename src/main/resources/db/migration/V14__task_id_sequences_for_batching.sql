@@ -0,0 +1,4 @@
+-- Task and task tag ids are allocated by Hibernate's pooled optimizer in blocks of 50,
+-- so the backing sequences must advance by the same step. Plain nextval() defaults keep working.
+ALTER SEQUENCE tasks_id_seq INCREMENT BY 50;
+ALTER SEQUENCE task_tags_id_seq INCREMENT BY 50;
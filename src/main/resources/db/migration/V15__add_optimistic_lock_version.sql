@@ -0,0 +1,7 @@
+-- Optimistic lock version for every entity extending AuditableEntity; exposed as the ETag of tasks
+ALTER TABLE tenants ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE roles ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE task_comments ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE task_attachments ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,3 @@
+-- Per-tenant counter bumped after every committed task, comment or attachment change.
+-- List endpoints derive their ETag from it, so a poll can be answered with 304 without running the list query.
+ALTER TABLE tenants ADD COLUMN change_count BIGINT NOT NULL DEFAULT 0;
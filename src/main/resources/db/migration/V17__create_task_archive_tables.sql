@@ -0,0 +1,54 @@
+-- Archive of soft-deleted and long-completed tasks, moved out of the hot tables by TaskArchiveService.
+-- Same columns as the live tables plus archived_at; no foreign keys, so archived rows never block
+-- deleting users or keep the live tables' constraints busy.
+CREATE TABLE tasks_archive (
+    id BIGINT PRIMARY KEY,
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    status VARCHAR(20) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    due_date TIMESTAMP,
+    tenant_id BIGINT NOT NULL,
+    created_by BIGINT NOT NULL,
+    assigned_to BIGINT,
+    tags TEXT,
+    completed_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    deleted_at TIMESTAMP,
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL
+);
+CREATE TABLE task_comments_archive (
+    id BIGINT PRIMARY KEY,
+    task_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    content TEXT NOT NULL,
+    edited BOOLEAN NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    deleted_at TIMESTAMP,
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL
+);
+CREATE TABLE task_attachments_archive (
+    id BIGINT PRIMARY KEY,
+    task_id BIGINT NOT NULL,
+    uploaded_by BIGINT NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    file_path VARCHAR(500) NOT NULL,
+    file_size BIGINT NOT NULL,
+    mime_type VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    deleted_at TIMESTAMP,
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL
+);
+-- Create indexes
+CREATE INDEX idx_tasks_archive_tenant_id ON tasks_archive(tenant_id, id);
+CREATE INDEX idx_task_comments_archive_task_id ON task_comments_archive(task_id);
+CREATE INDEX idx_task_attachments_archive_task_id ON task_attachments_archive(task_id);
+-- Lets the archiver find long-completed live tasks without scanning the table
+CREATE INDEX idx_tasks_completed_at ON tasks(completed_at)
+WHERE status = 'COMPLETED' AND deleted_at IS NULL;
@@ -0,0 +1,209 @@
+-- Hash-partition tasks, task_comments, task_attachments and audit_logs by tenant_id (16 partitions each).
+-- Every table is rewritten (copied into a new partitioned table, then the old one is dropped), so on large
+-- installations run this in a maintenance window. PostgreSQL requires the partition key in every primary key
+-- and unique constraint, so primary keys become (id, tenant_id); ids still come from the same sequences and
+-- stay unique on their own, so the entities keep mapping id alone.
+
+-- Comments and attachments carry their task's tenant so they can be partitioned (and pruned) like tasks
+ALTER TABLE task_comments ADD COLUMN tenant_id BIGINT;
+UPDATE task_comments c SET tenant_id = t.tenant_id FROM tasks t WHERE t.id = c.task_id;
+ALTER TABLE task_comments ALTER COLUMN tenant_id SET NOT NULL;
+ALTER TABLE task_attachments ADD COLUMN tenant_id BIGINT;
+UPDATE task_attachments a SET tenant_id = t.tenant_id FROM tasks t WHERE t.id = a.task_id;
+ALTER TABLE task_attachments ALTER COLUMN tenant_id SET NOT NULL;
+
+-- Foreign keys into tasks are recreated below against the (id, tenant_id) key
+ALTER TABLE task_comments DROP CONSTRAINT fk_comments_task;
+ALTER TABLE task_attachments DROP CONSTRAINT fk_attachments_task;
+ALTER TABLE task_tags DROP CONSTRAINT fk_task_tags_task;
+
+-- Keep the id sequences when the old tables are dropped
+ALTER SEQUENCE tasks_id_seq OWNED BY NONE;
+ALTER SEQUENCE task_comments_id_seq OWNED BY NONE;
+ALTER SEQUENCE task_attachments_id_seq OWNED BY NONE;
+ALTER SEQUENCE audit_logs_id_seq OWNED BY NONE;
+
+ALTER TABLE tasks RENAME TO tasks_unpartitioned;
+ALTER TABLE task_comments RENAME TO task_comments_unpartitioned;
+ALTER TABLE task_attachments RENAME TO task_attachments_unpartitioned;
+ALTER TABLE audit_logs RENAME TO audit_logs_unpartitioned;
+
+CREATE TABLE tasks (
+    id BIGINT NOT NULL DEFAULT nextval('tasks_id_seq'),
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    status VARCHAR(20) NOT NULL DEFAULT 'TODO',
+    priority VARCHAR(20) NOT NULL DEFAULT 'MEDIUM',
+    due_date TIMESTAMP,
+    tenant_id BIGINT NOT NULL,
+    created_by BIGINT NOT NULL,
+    assigned_to BIGINT,
+    tags TEXT,
+    completed_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    deleted_at TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0
+) PARTITION BY HASH (tenant_id);
+
+CREATE TABLE task_comments (
+    id BIGINT NOT NULL DEFAULT nextval('task_comments_id_seq'),
+    task_id BIGINT NOT NULL,
+    tenant_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    content TEXT NOT NULL,
+    edited BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    deleted_at TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0
+) PARTITION BY HASH (tenant_id);
+
+CREATE TABLE task_attachments (
+    id BIGINT NOT NULL DEFAULT nextval('task_attachments_id_seq'),
+    task_id BIGINT NOT NULL,
+    tenant_id BIGINT NOT NULL,
+    uploaded_by BIGINT NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    file_path VARCHAR(500) NOT NULL,
+    file_size BIGINT NOT NULL,
+    mime_type VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    deleted_at TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0
+) PARTITION BY HASH (tenant_id);
+
+CREATE TABLE audit_logs (
+    id BIGINT NOT NULL DEFAULT nextval('audit_logs_id_seq'),
+    tenant_id BIGINT NOT NULL,
+    user_id BIGINT,
+    action VARCHAR(50) NOT NULL,
+    entity_type VARCHAR(100) NOT NULL,
+    entity_id BIGINT,
+    details TEXT,
+    ip_address VARCHAR(45),
+    timestamp TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+) PARTITION BY HASH (tenant_id);
+
+-- Same modulus for all four tables, so a tenant's tasks, comments and attachments live in matching partitions
+DO $$
+BEGIN
+    FOR i IN 0..15 LOOP
+        EXECUTE format('CREATE TABLE tasks_p%s PARTITION OF tasks FOR VALUES WITH (MODULUS 16, REMAINDER %s)', i, i);
+        EXECUTE format('CREATE TABLE task_comments_p%s PARTITION OF task_comments FOR VALUES WITH (MODULUS 16, REMAINDER %s)', i, i);
+        EXECUTE format('CREATE TABLE task_attachments_p%s PARTITION OF task_attachments FOR VALUES WITH (MODULUS 16, REMAINDER %s)', i, i);
+        EXECUTE format('CREATE TABLE audit_logs_p%s PARTITION OF audit_logs FOR VALUES WITH (MODULUS 16, REMAINDER %s)', i, i);
+    END LOOP;
+END $$;
+
+-- Copy before building indexes and constraints: bulk index builds are much faster than row-by-row maintenance
+INSERT INTO tasks (id, title, description, status, priority, due_date, tenant_id, created_by, assigned_to, tags,
+                   completed_at, created_at, updated_at, deleted_at, version)
+SELECT id, title, description, status, priority, due_date, tenant_id, created_by, assigned_to, tags,
+       completed_at, created_at, updated_at, deleted_at, version
+FROM tasks_unpartitioned;
+
+INSERT INTO task_comments (id, task_id, tenant_id, user_id, content, edited, created_at, updated_at, deleted_at, version)
+SELECT id, task_id, tenant_id, user_id, content, edited, created_at, updated_at, deleted_at, version
+FROM task_comments_unpartitioned;
+
+INSERT INTO task_attachments (id, task_id, tenant_id, uploaded_by, file_name, file_path, file_size, mime_type,
+                              created_at, updated_at, deleted_at, version)
+SELECT id, task_id, tenant_id, uploaded_by, file_name, file_path, file_size, mime_type,
+       created_at, updated_at, deleted_at, version
+FROM task_attachments_unpartitioned;
+
+INSERT INTO audit_logs (id, tenant_id, user_id, action, entity_type, entity_id, details, ip_address, timestamp)
+SELECT id, tenant_id, user_id, action, entity_type, entity_id, details, ip_address, timestamp
+FROM audit_logs_unpartitioned;
+
+DROP TABLE task_comments_unpartitioned;
+DROP TABLE task_attachments_unpartitioned;
+DROP TABLE tasks_unpartitioned;
+DROP TABLE audit_logs_unpartitioned;
+
+ALTER SEQUENCE tasks_id_seq OWNED BY tasks.id;
+ALTER SEQUENCE task_comments_id_seq OWNED BY task_comments.id;
+ALTER SEQUENCE task_attachments_id_seq OWNED BY task_attachments.id;
+ALTER SEQUENCE audit_logs_id_seq OWNED BY audit_logs.id;
+
+-- Keys and constraints.
+-- Trade-off: (id, tenant_id) keys no longer make id unique by themselves; two rows of different tenants could
+-- share an id and PostgreSQL would accept it, as a partitioned table cannot have a unique index without the
+-- partition key. Uniqueness now rests on ids always coming from the sequences above (column defaults and
+-- Hibernate's sequence generator); manual inserts must not supply ids of their own.
+ALTER TABLE tasks ADD CONSTRAINT tasks_pkey PRIMARY KEY (id, tenant_id);
+ALTER TABLE tasks ADD CONSTRAINT fk_tasks_tenant FOREIGN KEY (tenant_id) REFERENCES tenants(id) ON DELETE CASCADE;
+ALTER TABLE tasks ADD CONSTRAINT fk_tasks_created_by FOREIGN KEY (created_by) REFERENCES users(id);
+ALTER TABLE tasks ADD CONSTRAINT fk_tasks_assigned_to FOREIGN KEY (assigned_to) REFERENCES users(id);
+
+ALTER TABLE task_comments ADD CONSTRAINT task_comments_pkey PRIMARY KEY (id, tenant_id);
+ALTER TABLE task_comments ADD CONSTRAINT fk_comments_task FOREIGN KEY (task_id, tenant_id)
+    REFERENCES tasks(id, tenant_id) ON DELETE CASCADE;
+ALTER TABLE task_comments ADD CONSTRAINT fk_comments_tenant FOREIGN KEY (tenant_id) REFERENCES tenants(id) ON DELETE CASCADE;
+ALTER TABLE task_comments ADD CONSTRAINT fk_comments_user FOREIGN KEY (user_id) REFERENCES users(id);
+
+ALTER TABLE task_attachments ADD CONSTRAINT task_attachments_pkey PRIMARY KEY (id, tenant_id);
+ALTER TABLE task_attachments ADD CONSTRAINT fk_attachments_task FOREIGN KEY (task_id, tenant_id)
+    REFERENCES tasks(id, tenant_id) ON DELETE CASCADE;
+ALTER TABLE task_attachments ADD CONSTRAINT fk_attachments_tenant FOREIGN KEY (tenant_id) REFERENCES tenants(id) ON DELETE CASCADE;
+ALTER TABLE task_attachments ADD CONSTRAINT fk_attachments_user FOREIGN KEY (uploaded_by) REFERENCES users(id);
+
+ALTER TABLE task_tags ADD CONSTRAINT fk_task_tags_task FOREIGN KEY (task_id, tenant_id)
+    REFERENCES tasks(id, tenant_id) ON DELETE CASCADE;
+
+ALTER TABLE audit_logs ADD CONSTRAINT audit_logs_pkey PRIMARY KEY (id, tenant_id);
+ALTER TABLE audit_logs ADD CONSTRAINT fk_audit_logs_tenant FOREIGN KEY (tenant_id) REFERENCES tenants(id) ON DELETE CASCADE;
+ALTER TABLE audit_logs ADD CONSTRAINT fk_audit_logs_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE SET NULL;
+
+-- Indexes of V5-V17, recreated on the partitioned tables (each is built per partition).
+-- Lookups by id alone (Hibernate updates and deletes by primary key) use the (id, tenant_id) key in every partition.
+CREATE INDEX idx_tasks_tenant_id ON tasks(tenant_id);
+CREATE INDEX idx_tasks_assigned_to ON tasks(assigned_to);
+CREATE INDEX idx_tasks_due_date ON tasks(due_date);
+CREATE INDEX idx_tasks_created_by ON tasks(created_by);
+CREATE INDEX idx_tasks_deleted_at ON tasks(deleted_at);
+CREATE INDEX idx_tasks_tenant_created_at_id ON tasks(tenant_id, created_at, id)
+WHERE deleted_at IS NULL;
+CREATE INDEX idx_tasks_tenant_title_id ON tasks(tenant_id, title, id)
+WHERE deleted_at IS NULL;
+-- Expression must match FullTextSearchFunctionContributor.TASK_SEARCH_VECTOR
+CREATE INDEX idx_tasks_search ON tasks USING GIN (
+    (setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+     setweight(to_tsvector('english', coalesce(description, '')), 'B'))
+);
+CREATE INDEX idx_tasks_tenant_status ON tasks(tenant_id, status)
+WHERE deleted_at IS NULL;
+CREATE INDEX idx_tasks_tenant_assigned_status ON tasks(tenant_id, assigned_to, status)
+WHERE deleted_at IS NULL;
+CREATE INDEX idx_tasks_tenant_created_by ON tasks(tenant_id, created_by)
+WHERE deleted_at IS NULL;
+CREATE INDEX idx_tasks_tenant_due_date ON tasks(tenant_id, due_date)
+WHERE deleted_at IS NULL;
+CREATE INDEX idx_tasks_completed_at ON tasks(completed_at)
+WHERE status = 'COMPLETED' AND deleted_at IS NULL;
+
+CREATE INDEX idx_task_comments_task_id ON task_comments(task_id);
+CREATE INDEX idx_task_comments_user_id ON task_comments(user_id);
+CREATE INDEX idx_task_comments_deleted_at ON task_comments(deleted_at);
+CREATE INDEX idx_task_comments_task_created_at ON task_comments(task_id, created_at)
+WHERE deleted_at IS NULL;
+
+CREATE INDEX idx_task_attachments_task_id ON task_attachments(task_id);
+CREATE INDEX idx_task_attachments_deleted_at ON task_attachments(deleted_at);
+CREATE INDEX idx_task_attachments_task_created_at ON task_attachments(task_id, created_at)
+WHERE deleted_at IS NULL;
+
+CREATE INDEX idx_audit_logs_tenant_id ON audit_logs(tenant_id);
+CREATE INDEX idx_audit_logs_user_id ON audit_logs(user_id);
+CREATE INDEX idx_audit_logs_timestamp ON audit_logs(timestamp);
+CREATE INDEX idx_audit_logs_entity ON audit_logs(entity_type, entity_id);
+CREATE INDEX idx_audit_logs_tenant_timestamp ON audit_logs(tenant_id, timestamp);
+CREATE INDEX idx_audit_logs_tenant_user_timestamp ON audit_logs(tenant_id, user_id, timestamp);
+CREATE INDEX idx_audit_logs_tenant_action_timestamp ON audit_logs(tenant_id, action, timestamp);
+
+ANALYZE tasks;
+ANALYZE task_comments;
+ANALYZE task_attachments;
+ANALYZE audit_logs;
@@ -0,0 +1,22 @@
+-- Live (not soft-deleted) task counts per tenant, status and priority, maintained by TaskCounterService in the
+-- transaction of every task write and repaired by its reconciliation job.
+-- assignee_id 0 holds the counts of all the tenant's tasks; other rows count the tasks assigned to that user.
+CREATE TABLE tenant_task_counters (
+    tenant_id BIGINT NOT NULL REFERENCES tenants(id) ON DELETE CASCADE,
+    assignee_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    task_count BIGINT NOT NULL,
+    PRIMARY KEY (tenant_id, assignee_id, status, priority)
+);
+
+INSERT INTO tenant_task_counters (tenant_id, assignee_id, status, priority, task_count)
+SELECT tenant_id, 0, status, priority, count(*)
+FROM tasks
+WHERE deleted_at IS NULL
+GROUP BY tenant_id, status, priority
+UNION ALL
+SELECT tenant_id, assigned_to, status, priority, count(*)
+FROM tasks
+WHERE deleted_at IS NULL AND assigned_to IS NOT NULL
+GROUP BY tenant_id, assigned_to, status, priority;
@@ -0,0 +1,36 @@
+-- Per-day counts of live (not soft-deleted) tasks for the analytics endpoint, maintained by TaskCounterService
+-- in the transaction of every task write and compacted nightly.
+-- CREATED, ASSIGNED and TAGGED rows are dated by the task's creation day, COMPLETED rows by its completion day.
+-- user_id 0 and an empty tag mark the total; CREATED rows per creator, ASSIGNED rows per assignee and
+-- TAGGED rows per tag carry the user or the tag.
+CREATE TABLE task_daily_rollups (
+    tenant_id BIGINT NOT NULL REFERENCES tenants(id) ON DELETE CASCADE,
+    rollup_date DATE NOT NULL,
+    metric VARCHAR(20) NOT NULL,
+    user_id BIGINT NOT NULL,
+    tag VARCHAR(100) NOT NULL,
+    task_count BIGINT NOT NULL,
+    PRIMARY KEY (tenant_id, metric, rollup_date, user_id, tag)
+);
+
+INSERT INTO task_daily_rollups (tenant_id, rollup_date, metric, user_id, tag, task_count)
+SELECT tenant_id, CAST(created_at AS date), 'CREATED', 0, '', count(*)
+FROM tasks WHERE deleted_at IS NULL
+GROUP BY tenant_id, CAST(created_at AS date)
+UNION ALL
+SELECT tenant_id, CAST(created_at AS date), 'CREATED', created_by, '', count(*)
+FROM tasks WHERE deleted_at IS NULL
+GROUP BY tenant_id, CAST(created_at AS date), created_by
+UNION ALL
+SELECT tenant_id, CAST(created_at AS date), 'ASSIGNED', assigned_to, '', count(*)
+FROM tasks WHERE deleted_at IS NULL AND assigned_to IS NOT NULL
+GROUP BY tenant_id, CAST(created_at AS date), assigned_to
+UNION ALL
+SELECT t.tenant_id, CAST(t.created_at AS date), 'TAGGED', 0, tt.tag, count(*)
+FROM task_tags tt JOIN tasks t ON t.tenant_id = tt.tenant_id AND t.id = tt.task_id
+WHERE t.deleted_at IS NULL
+GROUP BY t.tenant_id, CAST(t.created_at AS date), tt.tag
+UNION ALL
+SELECT tenant_id, CAST(completed_at AS date), 'COMPLETED', 0, '', count(*)
+FROM tasks WHERE deleted_at IS NULL AND completed_at IS NOT NULL
+GROUP BY tenant_id, CAST(completed_at AS date);
@@ -0,0 +1,5 @@
+-- Keyset (cursor) pagination indexes for tenant scoped task lists
+CREATE INDEX idx_tasks_tenant_created_at_id ON tasks(tenant_id, created_at, id)
+WHERE deleted_at IS NULL;
+CREATE INDEX idx_tasks_tenant_title_id ON tasks(tenant_id, title, id)
+WHERE deleted_at IS NULL;
\ No newline at end of file
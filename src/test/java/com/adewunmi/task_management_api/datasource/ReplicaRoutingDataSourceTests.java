@@ -0,0 +1,112 @@
+package com.adewunmi.task_management_api.datasource;
+
+import com.adewunmi.task_management_api.multitenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two in-memory H2 databases stand in for primary and replica; each answers "which database am I".
+ */
+class ReplicaRoutingDataSourceTests {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(2);
+    private static final Duration READ_YOUR_WRITES_WINDOW = Duration.ofMinutes(1);
+
+    private ReplicaLagGuard guard;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+        guard = new ReplicaLagGuard(replica, MAX_LAG, READ_YOUR_WRITES_WINDOW);
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica, guard));
+
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void clearTenant() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        guard.recordReplicaLag(0);
+
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> currentDatabase())).isEqualTo("primary");
+        assertThat(currentDatabase()).isEqualTo("primary");
+    }
+
+    @Test
+    void laggingOrUncheckedReplicaIsSkipped() {
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("primary");
+
+        guard.recordReplicaLag(MAX_LAG.toMillis() + 1);
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("primary");
+
+        guard.recordReplicaLag(MAX_LAG.toMillis());
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("replica");
+
+        // H2 has no replication functions, so the check fails and the lag is unknown again
+        guard.checkReplicaLag();
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("primary");
+    }
+
+    @Test
+    void tenantReadsItsOwnCommittedWritesFromPrimary() {
+        guard.recordReplicaLag(0);
+        TenantContext.setCurrentTenant(1L);
+
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE whoami SET writes = writes + 1"));
+
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("primary");
+        TenantContext.setCurrentTenant(2L);
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("replica");
+    }
+
+    @Test
+    void rolledBackWriteDoesNotPinTenantToPrimary() {
+        guard.recordReplicaLag(0);
+        TenantContext.setCurrentTenant(1L);
+
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE whoami SET writes = writes + 1");
+            status.setRollbackOnly();
+        });
+
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("replica");
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT name FROM whoami", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS whoami");
+        jdbcTemplate.execute("CREATE TABLE whoami (name VARCHAR(20), writes INT)");
+        jdbcTemplate.update("INSERT INTO whoami (name, writes) VALUES (?, 0)", name);
+        return dataSource;
+    }
+}
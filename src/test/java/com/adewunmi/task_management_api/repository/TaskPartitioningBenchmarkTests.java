@@ -0,0 +1,223 @@
+package com.adewunmi.task_management_api.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark of tenant scoped queries on the same seeded multi-tenant dataset, once on the plain tables (V17)
+ * and once after converting them to hash partitions by tenant_id (V18, applied to the seeded data).
+ * Median timings are logged at debug level rather than asserted, as they depend on the machine; the assertions
+ * check that the conversion keeps every row and that tenant scoped queries touch a single partition.
+ * Skipped when Docker is not available.
+ */
+@Slf4j
+@Testcontainers(disabledWithoutDocker = true)
+class TaskPartitioningBenchmarkTests {
+
+    private static final String LAST_UNPARTITIONED_VERSION = "17";
+
+    private static final int TENANTS = 50;
+    private static final int USERS_PER_TENANT = 10;
+    private static final int TASKS = 200_000;
+
+    private static final int WARMUP_RUNS = 5;
+    private static final int TIMED_RUNS = 25;
+
+    // Tenant 7 and one of its users (user ids are tenant + TENANTS * k)
+    private static final long TENANT_ID = 7;
+    private static final long USER_ID = TENANT_ID + TENANTS;
+
+    private static final String TASK_OF_TENANT = "(SELECT min(id) FROM tasks WHERE tenant_id = " + TENANT_ID + ")";
+
+    @Container
+    private static final PostgreSQLContainer<?> UNPARTITIONED = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Container
+    private static final PostgreSQLContainer<?> PARTITIONED = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        migrate(UNPARTITIONED, LAST_UNPARTITIONED_VERSION);
+        seed(UNPARTITIONED);
+        analyze(UNPARTITIONED);
+
+        migrate(PARTITIONED, LAST_UNPARTITIONED_VERSION);
+        seed(PARTITIONED);
+        migrate(PARTITIONED, null);
+        analyze(PARTITIONED);
+    }
+
+    @Test
+    void conversionKeepsEveryRow() throws SQLException {
+        for (String table : new String[] {"tasks", "task_comments", "task_attachments", "audit_logs"}) {
+            String count = "SELECT count(*) FROM " + table;
+            assertThat(queryLong(PARTITIONED, count)).as(table).isEqualTo(queryLong(UNPARTITIONED, count));
+            assertThat(queryLong(PARTITIONED, "SELECT count(*) FROM pg_inherits WHERE inhparent = '"
+                    + table + "'::regclass")).as(table + " partitions").isEqualTo(16);
+        }
+        assertThat(queryLong(PARTITIONED, "SELECT count(*) FROM task_comments c JOIN tasks t ON t.id = c.task_id "
+                + "WHERE c.tenant_id <> t.tenant_id")).isZero();
+    }
+
+    static Stream<Arguments> tenantScopedQueries() {
+        return Stream.of(
+                Arguments.of("list newest first", "tasks",
+                        "SELECT id FROM tasks WHERE tenant_id = " + TENANT_ID + " AND deleted_at IS NULL "
+                                + "ORDER BY created_at DESC, id DESC LIMIT 20"),
+                Arguments.of("count by status", "tasks",
+                        "SELECT count(*) FROM tasks WHERE tenant_id = " + TENANT_ID + " AND status = 'TODO' "
+                                + "AND deleted_at IS NULL"),
+                Arguments.of("assignee and status", "tasks",
+                        "SELECT count(*) FROM tasks WHERE tenant_id = " + TENANT_ID + " AND assigned_to = " + USER_ID
+                                + " AND status = 'COMPLETED' AND deleted_at IS NULL"),
+                Arguments.of("due this week", "tasks",
+                        "SELECT id FROM tasks WHERE tenant_id = " + TENANT_ID + " AND deleted_at IS NULL "
+                                + "AND due_date BETWEEN now() AND now() + interval '7 days'"),
+                Arguments.of("dashboard group by status", "tasks",
+                        "SELECT status, count(*) FROM tasks WHERE tenant_id = " + TENANT_ID
+                                + " AND deleted_at IS NULL GROUP BY status"),
+                Arguments.of("task by id", "tasks",
+                        "SELECT * FROM tasks WHERE tenant_id = " + TENANT_ID + " AND id = " + TASK_OF_TENANT),
+                Arguments.of("comments of a task", "task_comments",
+                        "SELECT id FROM task_comments WHERE tenant_id = " + TENANT_ID + " AND task_id = "
+                                + TASK_OF_TENANT + " AND deleted_at IS NULL ORDER BY created_at DESC LIMIT 20"),
+                Arguments.of("recent audit log", "audit_logs",
+                        "SELECT id FROM audit_logs WHERE tenant_id = " + TENANT_ID
+                                + " ORDER BY timestamp DESC LIMIT 50"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("tenantScopedQueries")
+    void tenantScopedQueryIsPrunedToOnePartition(String name, String table, String sql) throws SQLException {
+        String plan = explain(PARTITIONED, sql);
+        Matcher partitions = Pattern.compile("\\b" + table + "_p\\d+\\b").matcher(plan);
+        long distinctPartitions = partitions.results().map(result -> result.group()).distinct().count();
+
+        if (log.isDebugEnabled()) {
+            log.debug("{}: unpartitioned {} ms, partitioned {} ms",
+                    name, medianMillis(UNPARTITIONED, sql), medianMillis(PARTITIONED, sql));
+        }
+
+        assertThat(distinctPartitions)
+                .as("partitions of %s scanned for '%s':%n%s", table, name, plan)
+                .isEqualTo(1);
+    }
+
+    private static void migrate(PostgreSQLContainer<?> postgres, String target) {
+        var configuration = Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration");
+        if (target != null) {
+            configuration.target(target);
+        }
+        configuration.load().migrate();
+    }
+
+    /**
+     * Same task distribution as TaskQueryPlanTests, plus one comment per task, attachments on recent tasks
+     * and one audit entry per task; written against the V17 schema (comments and attachments without tenant_id)
+     */
+    private static void seed(PostgreSQLContainer<?> postgres) throws SQLException {
+        try (Connection connection = connect(postgres); Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO tenants (name, slug) "
+                    + "SELECT 'Tenant ' || g, 'tenant-' || g FROM generate_series(1, " + TENANTS + ") g");
+            statement.execute("INSERT INTO users (first_name, last_name, email, password, tenant_id) "
+                    + "SELECT 'User', g::text, 'user' || g || '@example.com', 'secret', ((g - 1) % " + TENANTS + ") + 1 "
+                    + "FROM generate_series(1, " + (TENANTS * USERS_PER_TENANT) + ") g");
+            statement.execute("INSERT INTO tasks (title, description, status, priority, due_date, tenant_id, "
+                    + "created_by, assigned_to, tags, created_at, deleted_at) "
+                    + "SELECT 'Task ' || g, 'Description of task ' || g, "
+                    + "(ARRAY['TODO','IN_PROGRESS','IN_REVIEW','COMPLETED','CANCELLED'])[1 + g % 5], "
+                    + "(ARRAY['LOW','MEDIUM','HIGH','URGENT'])[1 + g % 4], "
+                    + "now() + (g % 60) * interval '1 day', "
+                    + "tenant, tenant + " + TENANTS + " * (g % " + USERS_PER_TENANT + "), "
+                    + "tenant + " + TENANTS + " * ((g + 1) % " + USERS_PER_TENANT + "), "
+                    + "'backend,tag-' || (g % 25), "
+                    + "now() - (g % 365) * interval '1 day', "
+                    + "CASE WHEN g % 20 = 0 THEN now() END "
+                    + "FROM (SELECT g, ((g - 1) % " + TENANTS + ") + 1 AS tenant "
+                    + "FROM generate_series(1, " + TASKS + ") g) seed");
+            statement.execute("INSERT INTO task_tags (tenant_id, task_id, tag) "
+                    + "SELECT t.tenant_id, t.id, trim(raw.tag) FROM tasks t "
+                    + "CROSS JOIN LATERAL unnest(string_to_array(t.tags, ',')) AS raw(tag)");
+            statement.execute("INSERT INTO task_comments (task_id, user_id, content, created_at) "
+                    + "SELECT id, assigned_to, 'Comment on task ' || id, created_at + interval '1 hour' FROM tasks");
+            statement.execute("INSERT INTO task_attachments (task_id, uploaded_by, file_name, file_path, file_size, "
+                    + "mime_type, created_at) "
+                    + "SELECT id, created_by, 'spec.pdf', 'uploads/' || tenant_id || '/' || id || '.pdf', 1024, "
+                    + "'application/pdf', created_at FROM tasks WHERE created_at > now() - interval '30 days'");
+            statement.execute("INSERT INTO audit_logs (tenant_id, user_id, action, entity_type, entity_id, timestamp) "
+                    + "SELECT tenant_id, created_by, 'CREATE', 'Task', id, created_at FROM tasks");
+        }
+    }
+
+    private static void analyze(PostgreSQLContainer<?> postgres) throws SQLException {
+        try (Connection connection = connect(postgres); Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+    }
+
+    private static double medianMillis(PostgreSQLContainer<?> postgres, String sql) throws SQLException {
+        long[] nanos = new long[TIMED_RUNS];
+        try (Connection connection = connect(postgres); Statement statement = connection.createStatement()) {
+            for (int run = 0; run < WARMUP_RUNS + TIMED_RUNS; run++) {
+                long start = System.nanoTime();
+                try (ResultSet resultSet = statement.executeQuery(sql)) {
+                    while (resultSet.next()) {
+                        // Consume every row so fetch time is included
+                    }
+                }
+                if (run >= WARMUP_RUNS) {
+                    nanos[run - WARMUP_RUNS] = System.nanoTime() - start;
+                }
+            }
+        }
+        Arrays.sort(nanos);
+        return nanos[TIMED_RUNS / 2] / 1_000_000.0;
+    }
+
+    private static String explain(PostgreSQLContainer<?> postgres, String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = connect(postgres);
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+
+    private static long queryLong(PostgreSQLContainer<?> postgres, String sql) throws SQLException {
+        try (Connection connection = connect(postgres);
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static Connection connect(PostgreSQLContainer<?> postgres) throws SQLException {
+        return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+}
@@ -0,0 +1,125 @@
+package com.adewunmi.task_management_api.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plan regression test: hot tenant scoped task queries must be served by an index,
+ * never by a sequential scan of the tasks table, on a seeded multi-tenant dataset.
+ * Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TaskQueryPlanTests {
+
+    private static final int TENANTS = 50;
+    private static final int USERS_PER_TENANT = 10;
+    private static final int TASKS = 200_000;
+
+    // Tenant 7 and one of its users (user ids are tenant + TENANTS * k)
+    private static final long TENANT_ID = 7;
+    private static final long USER_ID = TENANT_ID + TENANTS;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO tenants (name, slug) "
+                    + "SELECT 'Tenant ' || g, 'tenant-' || g FROM generate_series(1, " + TENANTS + ") g");
+            statement.execute("INSERT INTO users (first_name, last_name, email, password, tenant_id) "
+                    + "SELECT 'User', g::text, 'user' || g || '@example.com', 'secret', ((g - 1) % " + TENANTS + ") + 1 "
+                    + "FROM generate_series(1, " + (TENANTS * USERS_PER_TENANT) + ") g");
+            statement.execute("INSERT INTO tasks (title, description, status, priority, due_date, tenant_id, "
+                    + "created_by, assigned_to, tags, created_at, deleted_at) "
+                    + "SELECT 'Task ' || g, 'Description of task ' || g, "
+                    + "(ARRAY['TODO','IN_PROGRESS','IN_REVIEW','COMPLETED','CANCELLED'])[1 + g % 5], "
+                    + "(ARRAY['LOW','MEDIUM','HIGH','URGENT'])[1 + g % 4], "
+                    + "now() + (g % 60) * interval '1 day', "
+                    + "tenant, tenant + " + TENANTS + " * (g % " + USERS_PER_TENANT + "), "
+                    + "tenant + " + TENANTS + " * ((g + 1) % " + USERS_PER_TENANT + "), "
+                    + "'backend,tag-' || (g % 25), "
+                    + "now() - (g % 365) * interval '1 day', "
+                    + "CASE WHEN g % 20 = 0 THEN now() END "
+                    + "FROM (SELECT g, ((g - 1) % " + TENANTS + ") + 1 AS tenant "
+                    + "FROM generate_series(1, " + TASKS + ") g) seed");
+            statement.execute("INSERT INTO task_tags (tenant_id, task_id, tag) "
+                    + "SELECT t.tenant_id, t.id, trim(raw.tag) FROM tasks t "
+                    + "CROSS JOIN LATERAL unnest(string_to_array(t.tags, ',')) AS raw(tag)");
+            statement.execute("ANALYZE");
+        }
+    }
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                Arguments.of("list newest first",
+                        "SELECT id FROM tasks WHERE tenant_id = " + TENANT_ID + " AND deleted_at IS NULL "
+                                + "ORDER BY created_at DESC, id DESC LIMIT 20"),
+                Arguments.of("count by status",
+                        "SELECT count(*) FROM tasks WHERE tenant_id = " + TENANT_ID + " AND status = 'TODO' "
+                                + "AND deleted_at IS NULL"),
+                Arguments.of("assignee and status",
+                        "SELECT count(*) FROM tasks WHERE tenant_id = " + TENANT_ID + " AND assigned_to = " + USER_ID
+                                + " AND status = 'COMPLETED' AND deleted_at IS NULL"),
+                Arguments.of("created by",
+                        "SELECT count(*) FROM tasks WHERE tenant_id = " + TENANT_ID + " AND created_by = " + USER_ID
+                                + " AND deleted_at IS NULL"),
+                Arguments.of("due this week",
+                        "SELECT id FROM tasks WHERE tenant_id = " + TENANT_ID + " AND deleted_at IS NULL "
+                                + "AND due_date BETWEEN now() AND now() + interval '7 days'"),
+                Arguments.of("overdue for assignee",
+                        "SELECT count(*) FROM tasks WHERE tenant_id = " + TENANT_ID + " AND assigned_to = " + USER_ID
+                                + " AND due_date < now() AND status <> 'COMPLETED' AND deleted_at IS NULL"),
+                Arguments.of("tag filter",
+                        "SELECT t.id FROM tasks t WHERE t.tenant_id = " + TENANT_ID + " AND t.deleted_at IS NULL "
+                                + "AND EXISTS (SELECT 1 FROM task_tags tt WHERE tt.tenant_id = " + TENANT_ID
+                                + " AND tt.tag IN ('tag-3') AND tt.task_id = t.id)"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueryDoesNotSeqScanTasks(String name, String sql) throws SQLException {
+        String plan = explain(sql);
+
+        assertThat(plan)
+                .as("plan for '%s':%n%s", name, plan)
+                .doesNotContain("Seq Scan on tasks");
+    }
+
+    private static String explain(String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
@@ -0,0 +1,214 @@
+package com.adewunmi.task_management_api.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark of the top-creator ranking of the analytics endpoint, at 20k and at 200k tasks over the same days.
+ * The legacy variant loads every task of the range, counts per creator in Java and rescans the task list for
+ * each ranked user's name (tasks x k); the ranking query sums the daily rollups and joins the k names in the
+ * database. Median timings are logged at debug level rather than asserted, as they depend on the machine; the
+ * assertions check that the ranking matches the tasks table and that the rollup rows it reads do not grow with
+ * the tasks.
+ * Skipped when Docker is not available.
+ */
+@Slf4j
+@Testcontainers(disabledWithoutDocker = true)
+class TaskRankingBenchmarkTests {
+
+    private static final int TENANTS = 20;
+    private static final int USERS_PER_TENANT = 10;
+    private static final int DAYS = 90;
+    private static final int SMALL_TASKS = 20_000;
+    private static final int LARGE_TASKS = 200_000;
+    private static final int TOP = 10;
+
+    private static final int WARMUP_RUNS = 5;
+    private static final int TIMED_RUNS = 25;
+
+    private static final long TENANT_ID = 7;
+
+    private static final String RANGE = "BETWEEN current_date - " + (DAYS - 1) + " AND current_date";
+
+    private static final String RANKING = "SELECT r.user_id, u.first_name || ' ' || u.last_name AS user_name, "
+            + "sum(r.task_count) AS task_count FROM task_daily_rollups r LEFT JOIN users u ON u.id = r.user_id "
+            + "WHERE r.tenant_id = " + TENANT_ID + " AND r.metric = 'CREATED' AND r.user_id <> 0 "
+            + "AND r.rollup_date " + RANGE + " "
+            + "GROUP BY r.user_id, u.first_name, u.last_name HAVING sum(r.task_count) > 0 "
+            + "ORDER BY task_count DESC, r.user_id LIMIT " + TOP;
+
+    private static final String RANKING_FROM_TASKS = "SELECT t.created_by, u.first_name || ' ' || u.last_name, "
+            + "count(*) AS task_count FROM tasks t JOIN users u ON u.id = t.created_by "
+            + "WHERE t.tenant_id = " + TENANT_ID + " AND t.deleted_at IS NULL "
+            + "AND CAST(t.created_at AS date) " + RANGE + " "
+            + "GROUP BY t.created_by, u.first_name, u.last_name ORDER BY task_count DESC, t.created_by LIMIT " + TOP;
+
+    private static final String LEGACY_LOAD = "SELECT t.id, t.created_by, u.first_name, u.last_name "
+            + "FROM tasks t JOIN users u ON u.id = t.created_by "
+            + "WHERE t.tenant_id = " + TENANT_ID + " AND t.deleted_at IS NULL AND CAST(t.created_at AS date) " + RANGE;
+
+    private static final String ROLLUP_ROWS_READ = "SELECT count(*) FROM task_daily_rollups "
+            + "WHERE tenant_id = " + TENANT_ID + " AND metric = 'CREATED' AND user_id <> 0 AND rollup_date " + RANGE;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static long smallRollupRows;
+    private static long largeRollupRows;
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO tenants (name, slug) "
+                    + "SELECT 'Tenant ' || g, 'tenant-' || g FROM generate_series(1, " + TENANTS + ") g");
+            statement.execute("INSERT INTO users (first_name, last_name, email, password, tenant_id) "
+                    + "SELECT 'User', g::text, 'user' || g || '@example.com', 'secret', ((g - 1) % " + TENANTS + ") + 1 "
+                    + "FROM generate_series(1, " + (TENANTS * USERS_PER_TENANT) + ") g");
+        }
+
+        seedTasks(1, SMALL_TASKS);
+        smallRollupRows = queryLong(ROLLUP_ROWS_READ);
+        report(SMALL_TASKS);
+
+        seedTasks(SMALL_TASKS + 1, LARGE_TASKS);
+        largeRollupRows = queryLong(ROLLUP_ROWS_READ);
+        report(LARGE_TASKS);
+    }
+
+    @Test
+    void rankingMatchesTasksTable() throws SQLException {
+        assertThat(queryRows(RANKING)).isNotEmpty().isEqualTo(queryRows(RANKING_FROM_TASKS));
+    }
+
+    @Test
+    void rollupRowsReadDoNotGrowWithTasks() throws SQLException {
+        long tasksInRange = queryLong("SELECT count(*) FROM (" + LEGACY_LOAD + ") AS tasks_in_range");
+        // At most one row per day and user, however many tasks were created
+        assertThat(largeRollupRows).isLessThanOrEqualTo((long) DAYS * USERS_PER_TENANT);
+        assertThat(tasksInRange).isGreaterThan(largeRollupRows);
+    }
+
+    /**
+     * Tasks spread over the last DAYS days and over every tenant's users, then the rollups rebuilt from them
+     * the way the nightly compaction does
+     */
+    private static void seedTasks(int from, int to) throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO tasks (title, description, status, priority, tenant_id, created_by, "
+                    + "assigned_to, created_at) "
+                    + "SELECT 'Task ' || g, 'Description of task ' || g, "
+                    + "(ARRAY['TODO','IN_PROGRESS','IN_REVIEW','COMPLETED','CANCELLED'])[1 + g % 5], "
+                    + "(ARRAY['LOW','MEDIUM','HIGH','URGENT'])[1 + g % 4], "
+                    + "tenant, tenant + " + TENANTS + " * ((g / " + TENANTS + ") % " + USERS_PER_TENANT + "), "
+                    + "tenant + " + TENANTS + " * ((g / " + (TENANTS * 3) + ") % " + USERS_PER_TENANT + "), "
+                    + "now() - ((g / 7) % " + DAYS + ") * interval '1 day' "
+                    + "FROM (SELECT g, ((g - 1) % " + TENANTS + ") + 1 AS tenant "
+                    + "FROM generate_series(" + from + ", " + to + ") g) seed");
+            statement.execute("DELETE FROM task_daily_rollups");
+            for (int tenant = 1; tenant <= TENANTS; tenant++) {
+                statement.execute("INSERT INTO task_daily_rollups "
+                        + "(tenant_id, rollup_date, metric, user_id, tag, task_count) "
+                        + TaskDailyRollupRepository.RECOUNT.replace(":tenantId", String.valueOf(tenant)));
+            }
+            statement.execute("ANALYZE");
+        }
+    }
+
+    private static void report(int tasks) throws SQLException {
+        if (log.isDebugEnabled()) {
+            log.debug("{} tasks: load and rank in Java {} ms, ranking query {} ms", tasks,
+                    medianMillis(TaskRankingBenchmarkTests::legacyRanking), medianMillis(() -> queryRows(RANKING)));
+        }
+    }
+
+    /**
+     * The former getTaskAnalytics ranking: group the loaded tasks, then find each ranked user's name by
+     * scanning the task list again
+     */
+    private static List<List<Object>> legacyRanking() throws SQLException {
+        List<Object[]> tasks = new ArrayList<>();
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LEGACY_LOAD)) {
+            while (resultSet.next()) {
+                tasks.add(new Object[] {resultSet.getLong(2), resultSet.getString(3) + " " + resultSet.getString(4)});
+            }
+        }
+        Map<Long, Long> counts = tasks.stream()
+                .collect(Collectors.groupingBy(task -> (Long) task[0], LinkedHashMap::new, Collectors.counting()));
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .limit(TOP)
+                .map(entry -> {
+                    Object[] task = tasks.stream().filter(t -> t[0].equals(entry.getKey())).findFirst().orElseThrow();
+                    return List.<Object>of(entry.getKey(), task[1], entry.getValue());
+                })
+                .toList();
+    }
+
+    private interface Run {
+        Object run() throws SQLException;
+    }
+
+    private static double medianMillis(Run run) throws SQLException {
+        long[] nanos = new long[TIMED_RUNS];
+        for (int i = 0; i < WARMUP_RUNS + TIMED_RUNS; i++) {
+            long start = System.nanoTime();
+            run.run();
+            if (i >= WARMUP_RUNS) {
+                nanos[i - WARMUP_RUNS] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(nanos);
+        return nanos[TIMED_RUNS / 2] / 1_000_000.0;
+    }
+
+    private static List<List<Object>> queryRows(String sql) throws SQLException {
+        List<List<Object>> rows = new ArrayList<>();
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                rows.add(List.of(resultSet.getLong(1), resultSet.getString(2), resultSet.getLong(3)));
+            }
+        }
+        return rows;
+    }
+
+    private static long queryLong(String sql) throws SQLException {
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
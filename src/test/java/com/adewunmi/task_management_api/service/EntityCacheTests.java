@@ -0,0 +1,112 @@
+package com.adewunmi.task_management_api.service;
+
+import com.adewunmi.task_management_api.entity.Tenant;
+import com.adewunmi.task_management_api.entity.User;
+import com.adewunmi.task_management_api.repository.TenantRepository;
+import com.adewunmi.task_management_api.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Second-level cache of reference data: repeated loads are served from the cache, the tenant change counter
+ * does not flush cached tenants, and explicit user eviction forces a reload.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:entity-cache")
+@ActiveProfiles("test")
+class EntityCacheTests {
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityCacheService entityCacheService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterBinder entityCacheMetrics;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private Long tenantId;
+    private Long userId;
+
+    @BeforeEach
+    void createUser() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        Tenant tenant = new Tenant();
+        tenant.setName("Tenant " + suffix);
+        tenant.setSlug("tenant-" + suffix);
+        tenantId = tenantRepository.save(tenant).getId();
+
+        User user = new User();
+        user.setFirstName("Test");
+        user.setLastName("User");
+        user.setEmail("user-" + suffix + "@example.com");
+        user.setPassword("secret");
+        user.setTenant(tenant);
+        userId = userRepository.save(user).getId();
+
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void repeatedLoadIsServedFromCache() {
+        MeterRegistry metrics = new SimpleMeterRegistry();
+        entityCacheMetrics.bindTo(metrics);
+
+        userRepository.findById(userId);
+        userRepository.findById(userId);
+
+        assertThat(statistics.getDomainDataRegionStatistics("users").getMissCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics("users").getHitCount()).isEqualTo(1);
+        assertThat(metrics.get("entity.cache.hit.ratio").tag("region", "users").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    void changeCounterDoesNotFlushCachedTenants() {
+        tenantRepository.findById(tenantId);
+
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> tenantRepository.incrementChangeCount(tenantId));
+        tenantRepository.findById(tenantId);
+
+        assertThat(statistics.getDomainDataRegionStatistics("tenants").getHitCount()).isEqualTo(1);
+        assertThat(tenantRepository.findChangeCountById(tenantId)).contains(1L);
+    }
+
+    @Test
+    void evictedUserIsReloaded() {
+        userRepository.findById(userId);
+
+        entityCacheService.evictUser(userId);
+        userRepository.findById(userId);
+
+        assertThat(statistics.getDomainDataRegionStatistics("users").getMissCount()).isEqualTo(2);
+        assertThat(statistics.getDomainDataRegionStatistics("users").getHitCount()).isZero();
+    }
+}
@@ -0,0 +1,228 @@
+package com.adewunmi.task_management_api.service;
+
+import com.adewunmi.task_management_api.dto.response.TaskResponse;
+import com.adewunmi.task_management_api.repository.TaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Two cache instances sharing an in-memory stand-in for Redis (values plus the invalidation channel):
+ * hits skip the loader, evictions reach both levels and the other instance, loads never outlive an eviction,
+ * and callers never share a response instance.
+ */
+class TaskCacheServiceTests {
+
+    private static final Long TENANT_ID = 1L;
+    private static final Long TASK_ID = 42L;
+
+    private final Map<String, String> redisValues = new ConcurrentHashMap<>();
+    private final List<String> published = new ArrayList<>();
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .filters(new SimpleFilterProvider().setFailOnUnknownId(false))
+            .build();
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void fakeRedis() {
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(values.get(any())).thenAnswer(call -> redisValues.get(call.<String>getArgument(0)));
+        doAnswer(call -> redisValues.put(call.getArgument(0), call.getArgument(1)))
+                .when(values).set(anyString(), anyString(), any(Duration.class));
+
+        redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(redisTemplate.delete(anyCollection())).thenAnswer(call -> {
+            Collection<String> keys = call.getArgument(0);
+            return keys.stream().filter(key -> redisValues.remove(key) != null).count();
+        });
+        when(redisTemplate.convertAndSend(anyString(), any())).thenAnswer(call -> {
+            published.add(call.getArgument(1));
+            return 1L;
+        });
+    }
+
+    @Test
+    void localHitSkipsLoader() {
+        MeterRegistry metrics = new SimpleMeterRegistry();
+        TaskCacheService cache = cache(metrics, 100);
+        CountingLoader loader = new CountingLoader("Write docs");
+
+        cache.get(TENANT_ID, TASK_ID, loader);
+        TaskResponse cached = cache.get(TENANT_ID, TASK_ID, loader);
+
+        assertThat(cached.getTitle()).isEqualTo("Write docs");
+        assertThat(loader.calls.get()).isEqualTo(1);
+        assertThat(gets(metrics, "local", "hit")).isEqualTo(1);
+        assertThat(gets(metrics, "local", "miss")).isEqualTo(1);
+        assertThat(gets(metrics, "redis", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    void otherInstanceIsServedFromRedis() {
+        MeterRegistry metrics = new SimpleMeterRegistry();
+        TaskCacheService first = cache(new SimpleMeterRegistry(), 100);
+        TaskCacheService second = cache(metrics, 100);
+        CountingLoader loader = new CountingLoader("Write docs");
+
+        first.get(TENANT_ID, TASK_ID, loader);
+        TaskResponse shared = second.get(TENANT_ID, TASK_ID, loader);
+
+        assertThat(shared.getTitle()).isEqualTo("Write docs");
+        assertThat(shared.getCreatedAt()).isEqualTo(LocalDateTime.of(2024, 1, 15, 9, 30));
+        assertThat(loader.calls.get()).isEqualTo(1);
+        assertThat(gets(metrics, "redis", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    void evictionClearsBothLevelsOnEveryInstance() {
+        MeterRegistry metrics = new SimpleMeterRegistry();
+        TaskCacheService first = cache(new SimpleMeterRegistry(), 100);
+        TaskCacheService second = cache(metrics, 100);
+        first.get(TENANT_ID, TASK_ID, new CountingLoader("Old title"));
+        second.get(TENANT_ID, TASK_ID, new CountingLoader("Old title"));
+
+        first.evict(TENANT_ID, List.of(TASK_ID));
+        published.forEach(second::handleInvalidation);
+
+        CountingLoader reload = new CountingLoader("New title");
+        assertThat(first.get(TENANT_ID, TASK_ID, reload).getTitle()).isEqualTo("New title");
+        assertThat(second.get(TENANT_ID, TASK_ID, reload).getTitle()).isEqualTo("New title");
+        assertThat(reload.calls.get()).isEqualTo(1);
+        assertThat(evictions(metrics, "invalidated")).isEqualTo(1);
+    }
+
+    @Test
+    void loadOverlappingEvictionIsNotCached() {
+        TaskCacheService cache = cache(new SimpleMeterRegistry(), 100);
+
+        // The task changes (and is evicted) while a reader is still building its response from the old row
+        TaskResponse stale = cache.get(TENANT_ID, TASK_ID, () -> {
+            cache.evict(TENANT_ID, List.of(TASK_ID));
+            return response("Old title");
+        });
+
+        CountingLoader reload = new CountingLoader("New title");
+        assertThat(stale.getTitle()).isEqualTo("Old title");
+        assertThat(cache.get(TENANT_ID, TASK_ID, reload).getTitle()).isEqualTo("New title");
+        assertThat(reload.calls.get()).isEqualTo(1);
+        assertThat(redisValues.get("task-cache:" + TENANT_ID + ":" + TASK_ID)).contains("New title");
+    }
+
+    @Test
+    void callersGetTheirOwnCopy() {
+        TaskCacheService cache = cache(new SimpleMeterRegistry(), 100);
+        CountingLoader loader = new CountingLoader("Write docs");
+
+        TaskResponse loaded = cache.get(TENANT_ID, TASK_ID, loader);
+        loaded.setCommentCount(5);
+        loaded.getCreatedBy().setFirstName("Grace");
+        TaskResponse hit = cache.get(TENANT_ID, TASK_ID, loader);
+        hit.setTitle("Changed by a caller");
+
+        TaskResponse next = cache.get(TENANT_ID, TASK_ID, loader);
+        assertThat(next.getTitle()).isEqualTo("Write docs");
+        assertThat(next.getCommentCount()).isNull();
+        assertThat(next.getCreatedBy().getFirstName()).isEqualTo("Ada");
+        assertThat(loader.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void userChangeEvictsTheirTasks() {
+        when(taskRepository.findIdsByUserIdAndTenantId(eq(7L), eq(TENANT_ID))).thenReturn(List.of(TASK_ID));
+        TaskCacheService cache = cache(new SimpleMeterRegistry(), 100);
+        cache.get(TENANT_ID, TASK_ID, new CountingLoader("Write docs"));
+
+        cache.evictUser(TENANT_ID, 7L);
+
+        CountingLoader reload = new CountingLoader("Write docs");
+        cache.get(TENANT_ID, TASK_ID, reload);
+        assertThat(reload.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void sizeBoundEvictsLeastRecentlyUsed() {
+        MeterRegistry metrics = new SimpleMeterRegistry();
+        TaskCacheService cache = new TaskCacheServiceImpl(objectMapper, taskRepository, redisTemplate, metrics,
+                true, 2, Duration.ofMinutes(1), false, Duration.ofMinutes(5));
+        CountingLoader loader = new CountingLoader("Any");
+
+        cache.get(TENANT_ID, 1L, loader);
+        cache.get(TENANT_ID, 2L, loader);
+        cache.get(TENANT_ID, 1L, loader);
+        cache.get(TENANT_ID, 3L, loader);
+        cache.get(TENANT_ID, 1L, loader);
+        cache.get(TENANT_ID, 2L, loader);
+
+        assertThat(loader.calls.get()).isEqualTo(4);
+        assertThat(evictions(metrics, "size")).isEqualTo(2);
+    }
+
+    private TaskCacheService cache(MeterRegistry metrics, int maxEntries) {
+        return new TaskCacheServiceImpl(objectMapper, taskRepository, redisTemplate, metrics,
+                true, maxEntries, Duration.ofMinutes(1), true, Duration.ofMinutes(5));
+    }
+
+    private static double gets(MeterRegistry metrics, String level, String result) {
+        return metrics.get("task.cache.gets").tag("level", level).tag("result", result).counter().count();
+    }
+
+    private static double evictions(MeterRegistry metrics, String cause) {
+        return metrics.get("task.cache.evictions").tag("cause", cause).counter().count();
+    }
+
+    private static TaskResponse response(String title) {
+        return TaskResponse.builder()
+                .id(TASK_ID)
+                .title(title)
+                .createdBy(TaskResponse.UserSummary.builder().id(7L).firstName("Ada").lastName("Lovelace").build())
+                .createdAt(LocalDateTime.of(2024, 1, 15, 9, 30))
+                .version(3L)
+                .build();
+    }
+
+    private static class CountingLoader implements Supplier<TaskResponse> {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final String title;
+
+        CountingLoader(String title) {
+            this.title = title;
+        }
+
+        @Override
+        public TaskResponse get() {
+            calls.incrementAndGet();
+            return response(title);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.adewunmi.task_management_api.service;
+
+import com.adewunmi.task_management_api.dto.request.TaskFilterRequest;
+import com.adewunmi.task_management_api.dto.response.TaskResponse;
+import com.adewunmi.task_management_api.entity.Task;
+import com.adewunmi.task_management_api.entity.TaskAttachment;
+import com.adewunmi.task_management_api.entity.TaskComment;
+import com.adewunmi.task_management_api.entity.Tenant;
+import com.adewunmi.task_management_api.entity.User;
+import com.adewunmi.task_management_api.enums.TaskPriority;
+import com.adewunmi.task_management_api.enums.TaskStatus;
+import com.adewunmi.task_management_api.multitenant.TenantContext;
+import com.adewunmi.task_management_api.repository.TaskAttachmentRepository;
+import com.adewunmi.task_management_api.repository.TaskCommentRepository;
+import com.adewunmi.task_management_api.repository.TaskRepository;
+import com.adewunmi.task_management_api.repository.TenantRepository;
+import com.adewunmi.task_management_api.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A task list page costs a fixed number of statements, whatever its size: the page, its total, and one grouped
+ * count each for comments and attachments. Creators and assignees come with the page, never one query per task.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:statement-count")
+@ActiveProfiles("test")
+class TaskListStatementCountTests {
+
+    private static final int TASKS = 30;
+    private static final long STATEMENTS_PER_PAGE = 4;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskCommentRepository commentRepository;
+
+    @Autowired
+    private TaskAttachmentRepository attachmentRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long tenantId;
+
+    @BeforeEach
+    void createTasks() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        Tenant tenant = new Tenant();
+        tenant.setName("Tenant " + suffix);
+        tenant.setSlug("tenant-" + suffix);
+        tenant = tenantRepository.save(tenant);
+        tenantId = tenant.getId();
+
+        User creator = userRepository.save(user(tenant, "creator-" + suffix));
+        User assignee = userRepository.save(user(tenant, "assignee-" + suffix));
+
+        for (int i = 0; i < TASKS; i++) {
+            Task task = taskRepository.save(Task.builder()
+                    .title("Task " + i)
+                    .status(TaskStatus.TODO)
+                    .priority(TaskPriority.MEDIUM)
+                    .tenant(tenant)
+                    .createdBy(creator)
+                    // Every other task unassigned, so the assignee join is exercised both ways
+                    .assignedTo(i % 2 == 0 ? assignee : null)
+                    .build());
+            for (int c = 0; c < 2; c++) {
+                commentRepository.save(TaskComment.builder()
+                        .task(task)
+                        .user(creator)
+                        .content("Comment " + c)
+                        .edited(false)
+                        .build());
+            }
+            attachmentRepository.save(TaskAttachment.builder()
+                    .task(task)
+                    .uploadedBy(creator)
+                    .fileName("spec.pdf")
+                    .filePath("uploads/" + task.getId() + ".pdf")
+                    .fileSize(1024L)
+                    .mimeType("application/pdf")
+                    .build());
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        TenantContext.setCurrentTenant(tenantId);
+    }
+
+    @AfterEach
+    void clearTenant() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithPageSize() {
+        long smallPage = statementsForPage(5);
+        long largePage = statementsForPage(TASKS);
+
+        assertThat(largePage).isEqualTo(smallPage);
+        assertThat(largePage).isLessThanOrEqualTo(STATEMENTS_PER_PAGE);
+    }
+
+    @Test
+    void pageCarriesCountsAndUsers() {
+        Page<TaskResponse> page = taskService.getAllTasks(filter(TASKS));
+
+        assertThat(page.getTotalElements()).isEqualTo(TASKS);
+        assertThat(page.getContent()).hasSize(TASKS).allSatisfy(task -> {
+            assertThat(task.getCommentCount()).isEqualTo(2);
+            assertThat(task.getAttachmentCount()).isEqualTo(1);
+            assertThat(task.getCreatedBy()).isNotNull();
+        });
+        assertThat(page.getContent()).filteredOn(task -> task.getAssignedTo() != null).hasSize(TASKS / 2);
+    }
+
+    /**
+     * Statements of one list call, including the count query for its total
+     */
+    private long statementsForPage(int size) {
+        statistics.clear();
+        Page<TaskResponse> page = taskService.getAllTasks(filter(size));
+        assertThat(page.getContent()).hasSize(size);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static TaskFilterRequest filter(int size) {
+        return TaskFilterRequest.builder()
+                .page(0)
+                .size(size)
+                .sortBy("createdAt")
+                .sortDirection("desc")
+                .build();
+    }
+
+    private static User user(Tenant tenant, String name) {
+        User user = new User();
+        user.setFirstName("Test");
+        user.setLastName(name);
+        user.setEmail(name + "@example.com");
+        user.setPassword("secret");
+        user.setTenant(tenant);
+        return user;
+    }
+}
@@ -0,0 +1,182 @@
+package com.adewunmi.task_management_api.service;
+
+import com.adewunmi.task_management_api.dto.request.TaskRequest;
+import com.adewunmi.task_management_api.dto.response.TaskResponse;
+import com.adewunmi.task_management_api.entity.Task;
+import com.adewunmi.task_management_api.entity.Tenant;
+import com.adewunmi.task_management_api.entity.User;
+import com.adewunmi.task_management_api.enums.TaskPriority;
+import com.adewunmi.task_management_api.enums.TaskStatus;
+import com.adewunmi.task_management_api.exception.PreconditionFailedException;
+import com.adewunmi.task_management_api.multitenant.TenantContext;
+import com.adewunmi.task_management_api.repository.TaskRepository;
+import com.adewunmi.task_management_api.repository.TenantRepository;
+import com.adewunmi.task_management_api.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Many threads editing one task through If-Match: stale versions fail with a precondition error
+ * instead of overwriting each other, and retrying writers never lose an update.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:optimistic-locking;LOCK_TIMEOUT=10000")
+@ActiveProfiles("test")
+class TaskOptimisticLockingTests {
+
+    private static final int THREADS = 16;
+    private static final int UPDATES_PER_THREAD = 10;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long tenantId;
+    private Long taskId;
+
+    @BeforeEach
+    void createTask() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        Tenant tenant = new Tenant();
+        tenant.setName("Tenant " + suffix);
+        tenant.setSlug("tenant-" + suffix);
+        tenant = tenantRepository.save(tenant);
+
+        User user = new User();
+        user.setFirstName("Test");
+        user.setLastName("User");
+        user.setEmail("user-" + suffix + "@example.com");
+        user.setPassword("secret");
+        user.setTenant(tenant);
+        user = userRepository.save(user);
+
+        Task task = taskRepository.save(Task.builder()
+                .title("Contended task")
+                .description("0")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.MEDIUM)
+                .tenant(tenant)
+                .createdBy(user)
+                .build());
+
+        tenantId = tenant.getId();
+        taskId = task.getId();
+    }
+
+    @Test
+    void staleIfMatchIsRejected() throws Exception {
+        TaskResponse current = inTenant(() -> taskService.getTaskById(taskId));
+        inTenant(() -> taskService.updateTask(taskId, edit("1"), current.getVersion()));
+
+        assertThatThrownBy(() -> inTenant(() -> taskService.updateTask(taskId, edit("2"), current.getVersion())))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThat(inTenant(() -> taskService.getTaskById(taskId)).getDescription()).isEqualTo("1");
+    }
+
+    @Test
+    void writersOfTheSameVersionHaveExactlyOneWinner() throws Exception {
+        CyclicBarrier allRead = new CyclicBarrier(THREADS);
+        List<Callable<Boolean>> writers = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            String description = "writer-" + i;
+            writers.add(() -> inTenant(() -> {
+                Long version = taskService.getTaskById(taskId).getVersion();
+                allRead.await(30, TimeUnit.SECONDS);
+                try {
+                    taskService.updateTask(taskId, edit(description), version);
+                    return true;
+                } catch (PreconditionFailedException e) {
+                    return false;
+                }
+            }));
+        }
+
+        long winners = runAll(writers).stream().filter(Boolean::booleanValue).count();
+
+        assertThat(winners).isEqualTo(1);
+        assertThat(inTenant(() -> taskService.getTaskById(taskId)).getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void retryingWritersNeverLoseAnUpdate() throws Exception {
+        List<Callable<Integer>> writers = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            writers.add(() -> inTenant(() -> {
+                int conflicts = 0;
+                for (int done = 0; done < UPDATES_PER_THREAD; ) {
+                    // Read-modify-write of a counter kept in the description
+                    TaskResponse current = taskService.getTaskById(taskId);
+                    String next = String.valueOf(Integer.parseInt(current.getDescription()) + 1);
+                    try {
+                        taskService.updateTask(taskId, edit(next), current.getVersion());
+                        done++;
+                    } catch (PreconditionFailedException e) {
+                        conflicts++;
+                    }
+                }
+                return conflicts;
+            }));
+        }
+
+        runAll(writers);
+
+        TaskResponse task = inTenant(() -> taskService.getTaskById(taskId));
+        assertThat(task.getDescription()).isEqualTo(String.valueOf(THREADS * UPDATES_PER_THREAD));
+        assertThat(task.getVersion()).isEqualTo((long) THREADS * UPDATES_PER_THREAD);
+    }
+
+    private TaskRequest edit(String description) {
+        return TaskRequest.builder()
+                .title("Contended task")
+                .description(description)
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.MEDIUM)
+                .build();
+    }
+
+    private <T> T inTenant(Callable<T> action) throws Exception {
+        TenantContext.setCurrentTenant(tenantId);
+        try {
+            return action.call();
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private static <T> List<T> runAll(List<Callable<T>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        try {
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : executor.invokeAll(tasks, 2, TimeUnit.MINUTES)) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}